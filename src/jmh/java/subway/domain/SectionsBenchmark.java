@@ -0,0 +1,57 @@
+package subway.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SectionsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private Sections sections;
+    private Section extension;
+    private Section downEndSection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Station> stations = SectionsFixture.stations(size + 2);
+        Station extensionStation = stations.remove(stations.size() - 1);
+        sections = SectionsFixture.sections(stations);
+
+        Station downEndStation = stations.get(stations.size() - 1);
+        extension = new Section(SectionsFixture.LINE_ID, downEndStation, extensionStation, SectionsFixture.SECTION_DISTANCE);
+        downEndSection = sections.getSections().get(sections.getSections().size() - 1);
+    }
+
+    @Benchmark
+    public Sections addThenDelete() {
+        sections.add(extension);
+        sections.delete(extension.getDownStation().getId());
+        return sections;
+    }
+
+    @Benchmark
+    public Sections deleteThenAdd() {
+        sections.delete(downEndSection.getDownStation().getId());
+        sections.add(downEndSection);
+        return sections;
+    }
+
+    @Benchmark
+    public List<Station> getStations() {
+        return sections.getStations();
+    }
+
+    @Benchmark
+    public Long getDistance() {
+        return sections.getDistance();
+    }
+}
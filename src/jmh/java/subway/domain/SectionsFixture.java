@@ -0,0 +1,62 @@
+package subway.domain;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 노선과 구간을 운영 코드와 같은 추가 경로로 만든다.
+ * 역 id 는 저장하지 않고 부여해야 하므로 리플렉션으로 채운다.
+ */
+public class SectionsFixture {
+
+    public static final long LINE_ID = 1L;
+    public static final long SECTION_DISTANCE = 10L;
+
+    private static final Field STATION_ID = stationIdField();
+
+    public static List<Station> stations(int count) {
+        List<Station> stations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            stations.add(station(id, "역" + id));
+        }
+        return stations;
+    }
+
+    public static Sections sections(List<Station> stations) {
+        Sections sections = new Sections();
+        for (int i = 0; i < stations.size() - 1; i++) {
+            sections.add(new Section(LINE_ID, stations.get(i), stations.get(i + 1), SECTION_DISTANCE));
+        }
+        return sections;
+    }
+
+    public static Line line(int sectionCount) {
+        Line line = new Line("벤치마크선", "bg-red-600");
+        List<Station> stations = stations(sectionCount + 1);
+        for (int i = 0; i < sectionCount; i++) {
+            line.addSection(new Section(LINE_ID, stations.get(i), stations.get(i + 1), SECTION_DISTANCE));
+        }
+        return line;
+    }
+
+    private static Station station(long id, String name) {
+        Station station = new Station(name);
+        try {
+            STATION_ID.set(station, id);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return station;
+    }
+
+    private static Field stationIdField() {
+        try {
+            Field field = Station.class.getDeclaredField("id");
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
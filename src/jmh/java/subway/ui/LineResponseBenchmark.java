@@ -0,0 +1,31 @@
+package subway.ui;
+
+import org.openjdk.jmh.annotations.*;
+import subway.domain.Line;
+import subway.domain.SectionsFixture;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineResponseBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private Line line;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        line = SectionsFixture.line(size);
+    }
+
+    @Benchmark
+    public LineResponse from() {
+        return LineResponse.from(line);
+    }
+}
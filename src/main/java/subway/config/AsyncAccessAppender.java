@@ -0,0 +1,153 @@
+package subway.config;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 접근 로그를 요청 스레드 밖에서 기록하는 비동기 appender.
+ * 직접 만든 크기 제한 큐와 작업 스레드로 연결된 appender 에 넘기며,
+ * neverBlock 이 켜져 있으면 큐에 넣지 못한 이벤트를 버리고 그 수를 센다.
+ */
+public class AsyncAccessAppender extends UnsynchronizedAppenderBase<IAccessEvent>
+        implements AppenderAttachable<IAccessEvent> {
+
+    private static final AtomicLong DROPPED_COUNT = new AtomicLong();
+    private static final int DEFAULT_QUEUE_SIZE = 256;
+    private static final long STOP_TIMEOUT_MILLIS = 1_000L;
+
+    private final AppenderAttachableImpl<IAccessEvent> appenders = new AppenderAttachableImpl<>();
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private boolean neverBlock;
+    private BlockingQueue<IAccessEvent> queue;
+    private Thread worker;
+
+    public static long getDroppedCount() {
+        return DROPPED_COUNT.get();
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setNeverBlock(boolean neverBlock) {
+        this.neverBlock = neverBlock;
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queue size [" + queueSize + "]");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        worker = new Thread(this::drain, "access-log-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+        if (neverBlock) {
+            if (!queue.offer(event)) {
+                DROPPED_COUNT.incrementAndGet();
+            }
+            return;
+        }
+        putUninterruptibly(event);
+    }
+
+    private void putUninterruptibly(IAccessEvent event) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(event);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        while (isStarted()) {
+            try {
+                appenders.appendLoopOnAppenders(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        List<IAccessEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (IAccessEvent event : remaining) {
+            appenders.appendLoopOnAppenders(event);
+        }
+    }
+
+    @Override
+    public void addAppender(Appender<IAccessEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<IAccessEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<IAccessEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<IAccessEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<IAccessEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,65 @@
+package subway.config;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import subway.domain.LineRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 증분으로 유지하는 노선 거리가 구간 거리의 합과 같은지 검증한다.
+ * 전체 노선을 집계하는 쿼리이므로 health 가 아닌 별도 consistency 엔드포인트에서 요청할 때만 실행하고,
+ * 설정하면 기동 시에도 검증한다.
+ */
+@Configuration
+public class ConsistencyCheckConfig {
+
+    private static final String INCONSISTENT_DISTANCE_ERROR_MESSAGE = "노선 거리가 구간 거리의 합과 다릅니다. 노선 id: %s";
+
+    private final LineRepository lineRepository;
+
+    public ConsistencyCheckConfig(LineRepository lineRepository) {
+        this.lineRepository = lineRepository;
+    }
+
+    @Bean
+    public ConsistencyEndpoint consistencyEndpoint() {
+        return new ConsistencyEndpoint(lineRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "subway.consistency-check.on-startup", havingValue = "true")
+    public ApplicationRunner lineDistanceStartupCheck() {
+        return args -> {
+            List<Long> lineIds = lineRepository.findIdsWithInconsistentDistance();
+            if (!lineIds.isEmpty()) {
+                throw new IllegalStateException(String.format(INCONSISTENT_DISTANCE_ERROR_MESSAGE, lineIds));
+            }
+        };
+    }
+
+    @Endpoint(id = "consistency")
+    public static class ConsistencyEndpoint {
+
+        private final LineRepository lineRepository;
+
+        private ConsistencyEndpoint(LineRepository lineRepository) {
+            this.lineRepository = lineRepository;
+        }
+
+        @ReadOperation
+        public Map<String, Object> lineDistance() {
+            List<Long> lineIds = lineRepository.findIdsWithInconsistentDistance();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("consistent", lineIds.isEmpty());
+            result.put("lineIds", lineIds);
+            return result;
+        }
+    }
+}
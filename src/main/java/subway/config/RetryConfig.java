@@ -0,0 +1,26 @@
+package subway.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+
+/**
+ * 같은 노선을 동시에 수정해 낙관적 락이 충돌하면 짧은 무작위 대기 후 최대 3번까지 시도한다.
+ */
+@Configuration
+public class RetryConfig {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long MIN_BACKOFF_MILLIS = 10L;
+    private static final long MAX_BACKOFF_MILLIS = 50L;
+
+    @Bean
+    public RetryTemplate optimisticLockRetryTemplate() {
+        return RetryTemplate.builder()
+                .maxAttempts(MAX_ATTEMPTS)
+                .uniformRandomBackoff(MIN_BACKOFF_MILLIS, MAX_BACKOFF_MILLIS)
+                .retryOn(ObjectOptimisticLockingFailureException.class)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package subway.config;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 오류 응답은 모두, 나머지는 sampleRate 비율만큼만 통과시킨다.
+ */
+public class SampledAccessEventFilter extends Filter<IAccessEvent> {
+
+    private double sampleRate = 0.01;
+    private int errorStatus = 400;
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (event.getStatusCode() >= errorStatus) {
+            return FilterReply.ACCEPT;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.ACCEPT : FilterReply.DENY;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+}
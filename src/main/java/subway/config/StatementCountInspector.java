@@ -0,0 +1,26 @@
+package subway.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 스레드별로 센다.
+ * Hibernate 가 직접 생성하므로 스프링 빈이 아니며, 카운터는 요청 스레드의 ThreadLocal 에 둔다.
+ */
+public class StatementCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,39 @@
+package subway.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class StatementMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String METRIC_NAME = "hibernate.statements.per.request";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Hibernate 가 요청 하나를 처리하며 준비한 SQL 문 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri == null ? UNKNOWN_URI : uri.toString())
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(StatementCountInspector.count());
+    }
+}
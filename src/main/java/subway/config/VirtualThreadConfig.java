@@ -0,0 +1,34 @@
+package subway.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * subway.server.virtual-threads=true 이면 Tomcat 요청을 스레드 풀 대신 가상 스레드에서 처리한다.
+ * 소스는 Java 11 기준이므로 Java 21 이상에서 실행할 때만 리플렉션으로 실행기를 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "subway.server.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final String UNSUPPORTED_ERROR_MESSAGE = "가상 스레드는 Java 21 이상에서만 사용할 수 있습니다.";
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(UNSUPPORTED_ERROR_MESSAGE, e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+}
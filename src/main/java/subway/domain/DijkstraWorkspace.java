@@ -0,0 +1,121 @@
+package subway.domain;
+
+import java.util.Arrays;
+
+/**
+ * 최단 경로 탐색에 쓰는 배열과 이진 힙을 재사용하기 위한 작업 공간.
+ * 스레드마다 하나씩 두고 사용하며, 탐색마다 세대 번호만 올려 배열을 초기화하지 않는다.
+ */
+public class DijkstraWorkspace {
+
+    static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private long[] distances = new long[0];
+    private int[] previous = new int[0];
+    private int[] stamps = new int[0];
+    private int[] heap = new int[0];
+    private int[] heapPositions = new int[0];
+    private int[] settled = new int[0];
+    private int heapSize;
+    private int settledCount;
+    private int epoch;
+
+    void reset(int vertexCount) {
+        if (distances.length < vertexCount) {
+            distances = new long[vertexCount];
+            previous = new int[vertexCount];
+            stamps = new int[vertexCount];
+            heap = new int[vertexCount];
+            heapPositions = new int[vertexCount];
+            settled = new int[vertexCount];
+            epoch = 0;
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+        heapSize = 0;
+        settledCount = 0;
+    }
+
+    long distanceOf(int vertex) {
+        return stamps[vertex] == epoch ? distances[vertex] : UNREACHABLE;
+    }
+
+    int previousOf(int vertex) {
+        return previous[vertex];
+    }
+
+    int settledCount() {
+        return settledCount;
+    }
+
+    int settledAt(int index) {
+        return settled[index];
+    }
+
+    boolean isEmpty() {
+        return heapSize == 0;
+    }
+
+    void relax(int vertex, long distance, int from) {
+        boolean visited = stamps[vertex] == epoch;
+        stamps[vertex] = epoch;
+        distances[vertex] = distance;
+        previous[vertex] = from;
+        if (visited && heapPositions[vertex] >= 0) {
+            siftUp(heapPositions[vertex]);
+            return;
+        }
+        heap[heapSize] = vertex;
+        heapPositions[vertex] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    int poll() {
+        int top = heap[0];
+        heapPositions[top] = -1;
+        settled[settledCount++] = top;
+        if (--heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPositions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int index) {
+        int vertex = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (distances[heap[parent]] <= distances[vertex]) {
+                break;
+            }
+            move(heap[parent], index);
+            index = parent;
+        }
+        move(vertex, index);
+    }
+
+    private void siftDown(int index) {
+        int vertex = heap[index];
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < heapSize && distances[heap[child + 1]] < distances[heap[child]]) {
+                child++;
+            }
+            if (distances[vertex] <= distances[heap[child]]) {
+                break;
+            }
+            move(heap[child], index);
+            index = child;
+        }
+        move(vertex, index);
+    }
+
+    private void move(int vertex, int index) {
+        heap[index] = vertex;
+        heapPositions[vertex] = index;
+    }
+}
@@ -0,0 +1,107 @@
+package subway.domain;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 모든 역 쌍의 최단 거리와 최단 경로 트리를 담은 조밀 행렬.
+ * 출발역마다 독립적인 다익스트라 탐색을 ForkJoinPool 에서 병렬로 수행해 행 단위로 채운다.
+ * 경로는 출발역 행의 직전 정점만 따라 복원하므로 거리가 같은 경로가 여러 개여도 한 트리 안에서 일관된다.
+ */
+public class DistanceMatrix {
+
+    public static final long UNREACHABLE = DijkstraWorkspace.UNREACHABLE;
+
+    private static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+    private static final String TOO_MANY_STATIONS_ERROR_MESSAGE = "역이 %d개라 전체 역 쌍 거리 행렬을 만들 수 없습니다. 최대 %d개까지 가능합니다.";
+    private static final ThreadLocal<DijkstraWorkspace> WORKSPACES = ThreadLocal.withInitial(DijkstraWorkspace::new);
+
+    private final long version;
+    private final SectionGraph graph;
+    private final int vertexCount;
+    private final long[] distances;
+    private final int[] previous;
+
+    private DistanceMatrix(long version, SectionGraph graph, long[] distances, int[] previous) {
+        this.version = version;
+        this.graph = graph;
+        this.vertexCount = graph.getVertexCount();
+        this.distances = distances;
+        this.previous = previous;
+    }
+
+    /**
+     * 역 수의 제곱이 배열 하나에 담길 수 있는지 확인한다.
+     */
+    public static boolean fits(int vertexCount) {
+        return (long) vertexCount * vertexCount <= MAX_CELLS;
+    }
+
+    public static DistanceMatrix of(long version, SectionGraph graph, ForkJoinPool pool) {
+        int vertexCount = graph.getVertexCount();
+        if (!fits(vertexCount)) {
+            throw new IllegalArgumentException(String.format(TOO_MANY_STATIONS_ERROR_MESSAGE,
+                    vertexCount, (long) Math.sqrt(MAX_CELLS)));
+        }
+        int cells = Math.toIntExact((long) vertexCount * vertexCount);
+        long[] distances = new long[cells];
+        int[] previous = new int[cells];
+        pool.submit(() -> IntStream.range(0, vertexCount).parallel()
+                .forEach(source -> fillRow(graph, source, distances, previous, WORKSPACES.get())))
+                .join();
+        return new DistanceMatrix(version, graph, distances, previous);
+    }
+
+    private static void fillRow(SectionGraph graph, int source, long[] distances, int[] previous,
+                                DijkstraWorkspace workspace) {
+        int vertexCount = graph.getVertexCount();
+        int row = rowOf(source, vertexCount);
+        Arrays.fill(distances, row, row + vertexCount, UNREACHABLE);
+        Arrays.fill(previous, row, row + vertexCount, -1);
+
+        graph.searchAll(source, workspace);
+        for (int i = 0; i < workspace.settledCount(); i++) {
+            int vertex = workspace.settledAt(i);
+            distances[row + vertex] = workspace.distanceOf(vertex);
+            previous[row + vertex] = workspace.previousOf(vertex);
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long distance(Long sourceId, Long targetId) {
+        int source = graph.vertexOf(sourceId);
+        int target = graph.vertexOf(targetId);
+        if (source < 0 || target < 0) {
+            return UNREACHABLE;
+        }
+        return distances[rowOf(source, vertexCount) + target];
+    }
+
+    public Optional<ShortestPath> path(Long sourceId, Long targetId) {
+        long distance = distance(sourceId, targetId);
+        if (distance == UNREACHABLE) {
+            return Optional.empty();
+        }
+        int row = rowOf(graph.vertexOf(sourceId), vertexCount);
+        int target = graph.vertexOf(targetId);
+
+        int length = 0;
+        for (int vertex = target; vertex >= 0; vertex = previous[row + vertex]) {
+            length++;
+        }
+        long[] path = new long[length];
+        for (int vertex = target; vertex >= 0; vertex = previous[row + vertex]) {
+            path[--length] = graph.stationIdOf(vertex);
+        }
+        return Optional.of(new ShortestPath(path, distance));
+    }
+
+    private static int rowOf(int source, int vertexCount) {
+        return Math.toIntExact((long) source * vertexCount);
+    }
+}
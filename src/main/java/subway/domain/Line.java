@@ -1,19 +1,23 @@
 package subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import subway.ui.LineUpdateRequest;
 
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Line {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_seq_generator")
+    @SequenceGenerator(name = "line_seq_generator", sequenceName = "line_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 20, nullable = false)
@@ -28,13 +32,16 @@ public class Line {
     @Embedded
     private Sections sections = new Sections();
 
+    @Version
+    private Long version;
+
     public Line() {
     }
 
-    public Line(String name, String color, Long distance) {
+    public Line(String name, String color) {
         this.name = name;
         this.color = color;
-        this.distance = distance;
+        this.distance = 0L;
     }
 
     public Long getId() {
@@ -53,6 +60,10 @@ public class Line {
         return distance;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public void update(LineUpdateRequest request) {
         this.name = request.getName();
         this.color = request.getColor();
@@ -60,15 +71,19 @@ public class Line {
 
     public void addSection(Section section) {
         sections.add(section);
-        this.distance = sections.getDistance();
+        this.distance += section.getDistance();
     }
 
-    public Set<Station> getStations() {
+    public List<Station> getStations() {
         return sections.getStations();
     }
 
+    public List<Section> getSections() {
+        return sections.getSections();
+    }
+
     public void deleteSection(Long stationId) {
-        sections.delete(stationId);
-        this.distance = sections.getDistance();
+        Section deleted = sections.delete(stationId);
+        this.distance -= deleted.getDistance();
     }
 }
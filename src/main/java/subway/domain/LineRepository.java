@@ -1,6 +1,48 @@
 package subway.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "order by l.id")
+    List<Line> findAllWithStations();
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id in :ids " +
+            "order by l.id")
+    List<Line> findAllWithStationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select l.id from Line l " +
+            "where l.distance <> (select coalesce(sum(s.distance), 0) from Section s where s.lineId = l.id) " +
+            "order by l.id")
+    List<Long> findIdsWithInconsistentDistance();
+
+    List<LineSummary> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new subway.domain.LineStationRow(l.id, l.name, l.color, up.id, up.name, down.id, down.name) " +
+            "from Line l " +
+            "left join l.sections.sections s " +
+            "left join s.upStation up " +
+            "left join s.downStation down " +
+            "order by l.id, s.position")
+    Stream<LineStationRow> streamAllStationRows();
 }
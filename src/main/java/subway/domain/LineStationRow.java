@@ -0,0 +1,56 @@
+package subway.domain;
+
+public class LineStationRow {
+
+    private final Long lineId;
+    private final String lineName;
+    private final String lineColor;
+    private final Long upStationId;
+    private final String upStationName;
+    private final Long downStationId;
+    private final String downStationName;
+
+    public LineStationRow(Long lineId, String lineName, String lineColor,
+                          Long upStationId, String upStationName,
+                          Long downStationId, String downStationName) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.lineColor = lineColor;
+        this.upStationId = upStationId;
+        this.upStationName = upStationName;
+        this.downStationId = downStationId;
+        this.downStationName = downStationName;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public String getLineColor() {
+        return lineColor;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public String getUpStationName() {
+        return upStationName;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public String getDownStationName() {
+        return downStationName;
+    }
+
+    public boolean hasSection() {
+        return upStationId != null;
+    }
+}
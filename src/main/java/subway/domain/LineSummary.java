@@ -0,0 +1,10 @@
+package subway.domain;
+
+public interface LineSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getColor();
+}
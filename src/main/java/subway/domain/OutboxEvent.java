@@ -0,0 +1,61 @@
+package subway.domain;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 노선도 변경과 같은 트랜잭션에 기록되는 변경 이벤트.
+ * 릴레이가 발행할 때 publishedOffset 을 순서대로 부여하며, 소비자는 이 값으로 이어 받기를 한다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_event_published_offset", columnList = "published_offset", unique = true))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(length = 30, nullable = false)
+    private String eventType;
+
+    private Long targetId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private Long publishedOffset;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(String eventType, Long targetId) {
+        this.eventType = eventType;
+        this.targetId = targetId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getPublishedOffset() {
+        return publishedOffset;
+    }
+
+    public void publish(Long offset) {
+        this.publishedOffset = offset;
+    }
+}
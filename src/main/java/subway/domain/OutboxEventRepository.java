@@ -0,0 +1,17 @@
+package subway.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByPublishedOffsetIsNullOrderByIdAsc(Pageable pageable);
+
+    List<OutboxEvent> findByPublishedOffsetGreaterThanOrderByPublishedOffsetAsc(Long offset, Pageable pageable);
+
+    @Query("select coalesce(max(e.publishedOffset), 0) from OutboxEvent e")
+    Long findLastPublishedOffset();
+}
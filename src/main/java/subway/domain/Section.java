@@ -1,12 +1,23 @@
 package subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_section_line_id", columnList = "line_id"),
+        @Index(name = "idx_section_up_station_id", columnList = "up_station_id"),
+        @Index(name = "idx_section_down_station_id", columnList = "down_station_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Section {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq_generator")
+    @SequenceGenerator(name = "section_seq_generator", sequenceName = "section_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,6 +34,9 @@ public class Section {
     @Column(nullable = false)
     private Long distance;
 
+    @Column(nullable = false)
+    private Integer position;
+
     public Section() {
     }
 
@@ -33,6 +47,11 @@ public class Section {
         this.distance = distance;
     }
 
+    public Section(Long lineId, Station upStation, Station downStation, Long distance, int position) {
+        this(lineId, upStation, downStation, distance);
+        this.position = position;
+    }
+
     public Long getId() {
         return id;
     }
@@ -53,6 +72,10 @@ public class Section {
         return distance;
     }
 
+    void placeAt(int position) {
+        this.position = position;
+    }
+
     public boolean isDownStation(Station station) {
         return downStation.equals(station);
     }
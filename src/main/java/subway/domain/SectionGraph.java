@@ -0,0 +1,130 @@
+package subway.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+/**
+ * 구간을 양방향 간선으로 하는 CSR(Compressed Sparse Row) 형태의 인접 구조.
+ * 정점 번호는 정렬된 역 id 배열의 인덱스이다.
+ */
+public class SectionGraph {
+
+    private final long[] stationIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final long[] weights;
+
+    private SectionGraph(long[] stationIds, int[] offsets, int[] targets, long[] weights) {
+        this.stationIds = stationIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static SectionGraph of(List<Section> sections) {
+        long[] stationIds = sections.stream()
+                .flatMapToLong(section -> LongStream.of(section.getUpStation().getId(), section.getDownStation().getId()))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int[] offsets = new int[stationIds.length + 1];
+        for (Section section : sections) {
+            offsets[indexOf(stationIds, section.getUpStation().getId()) + 1]++;
+            offsets[indexOf(stationIds, section.getDownStation().getId()) + 1]++;
+        }
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            offsets[vertex + 1] += offsets[vertex];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, stationIds.length);
+        int[] targets = new int[sections.size() * 2];
+        long[] weights = new long[sections.size() * 2];
+        for (Section section : sections) {
+            int up = indexOf(stationIds, section.getUpStation().getId());
+            int down = indexOf(stationIds, section.getDownStation().getId());
+            targets[cursor[up]] = down;
+            weights[cursor[up]++] = section.getDistance();
+            targets[cursor[down]] = up;
+            weights[cursor[down]++] = section.getDistance();
+        }
+        return new SectionGraph(stationIds, offsets, targets, weights);
+    }
+
+    public int getVertexCount() {
+        return stationIds.length;
+    }
+
+    public boolean contains(Long stationId) {
+        return indexOf(stationIds, stationId) >= 0;
+    }
+
+    public Optional<ShortestPath> shortestPath(Long sourceId, Long targetId, DijkstraWorkspace workspace) {
+        int source = indexOf(stationIds, sourceId);
+        int target = indexOf(stationIds, targetId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        search(source, target, workspace);
+        if (workspace.distanceOf(target) == DijkstraWorkspace.UNREACHABLE) {
+            return Optional.empty();
+        }
+        return Optional.of(toShortestPath(target, workspace));
+    }
+
+    /**
+     * 도착역 없이 출발역에서 닿을 수 있는 모든 정점까지 탐색한다. 결과는 작업 공간에 남는다.
+     */
+    void searchAll(int source, DijkstraWorkspace workspace) {
+        search(source, -1, workspace);
+    }
+
+    int vertexOf(Long stationId) {
+        return indexOf(stationIds, stationId);
+    }
+
+    long stationIdOf(int vertex) {
+        return stationIds[vertex];
+    }
+
+    private void search(int source, int target, DijkstraWorkspace workspace) {
+        workspace.reset(stationIds.length);
+        workspace.relax(source, 0L, -1);
+        while (!workspace.isEmpty()) {
+            int vertex = workspace.poll();
+            if (vertex == target) {
+                break;
+            }
+            long distance = workspace.distanceOf(vertex);
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                long candidate = distance + weights[edge];
+                if (candidate < workspace.distanceOf(targets[edge])) {
+                    workspace.relax(targets[edge], candidate, vertex);
+                }
+            }
+        }
+    }
+
+    private ShortestPath toShortestPath(int target, DijkstraWorkspace workspace) {
+        int length = 0;
+        for (int vertex = target; vertex >= 0; vertex = workspace.previousOf(vertex)) {
+            length++;
+        }
+        long[] path = new long[length];
+        for (int vertex = target; vertex >= 0; vertex = workspace.previousOf(vertex)) {
+            path[--length] = stationIds[vertex];
+        }
+        return new ShortestPath(path, workspace.distanceOf(target));
+    }
+
+    private static int indexOf(long[] stationIds, Long stationId) {
+        if (stationId == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return Math.max(index, -1);
+    }
+}
@@ -0,0 +1,12 @@
+package subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+
+    boolean existsByUpStationIdOrDownStationId(Long upStationId, Long downStationId);
+
+    boolean existsByUpStationIdInOrDownStationIdIn(Collection<Long> upStationIds, Collection<Long> downStationIds);
+}
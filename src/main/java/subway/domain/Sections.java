@@ -1,13 +1,20 @@
 package subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Embeddable
 public class Sections {
@@ -18,50 +25,97 @@ public class Sections {
     private static final String ILLEGAL_SIZE_DELETE_SECTION_ERROR_MESSAGE = "구간이 하나인 경우에는 삭제 불가능 합니다.";
 
     @OneToMany(mappedBy = "lineId", cascade = {CascadeType.ALL}, orphanRemoval = true)
+    @OrderBy("position")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @OptimisticLock(excluded = false)
     private List<Section> sections = new ArrayList<>();
 
+    @Transient
+    private Set<Long> stationIds;
+
+    @Transient
+    private long distance;
+
+    public Sections() {
+    }
+
     public void add(Section section) {
-        if (sections.isEmpty()) {
-            sections.add(section);
-            return;
+        index();
+        if (!sections.isEmpty()) {
+            validateNewSection(section);
         }
-        validateNewSection(section);
+        section.placeAt(sections.size());
         sections.add(section);
+        stationIds.add(section.getUpStation().getId());
+        stationIds.add(section.getDownStation().getId());
+        distance += section.getDistance();
     }
 
-    public Set<Station> getStations() {
-        return sections.stream()
-                .flatMap(section -> Stream.of(section.getUpStation(), section.getDownStation()))
-                .collect(Collectors.toSet());
+    public List<Station> getStations() {
+        if (sections.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Station[] stations = new Station[getStationCount()];
+        stations[0] = sections.get(0).getUpStation();
+        for (int i = 0; i < sections.size(); i++) {
+            stations[i + 1] = sections.get(i).getDownStation();
+        }
+        return Collections.unmodifiableList(Arrays.asList(stations));
     }
 
-    public void delete(Long stationId) {
+    public Section delete(Long stationId) {
         if (sections.size() < 2) {
             throw new IllegalArgumentException(ILLEGAL_SIZE_DELETE_SECTION_ERROR_MESSAGE);
         }
 
-        Section downEndSection = sections.get(sections.size() - 1);
-        if (!downEndSection.getDownStation().matchId(stationId)) {
+        int downEndIndex = sections.size() - 1;
+        if (!sections.get(downEndIndex).getDownStation().matchId(stationId)) {
             throw new IllegalArgumentException(NOT_EQUALS_DOWN_END_SECTION_ERROR_MESSAGE);
         }
 
-        sections.remove(downEndSection);
+        index();
+        Section downEndSection = sections.remove(downEndIndex);
+        stationIds.remove(downEndSection.getDownStation().getId());
+        distance -= downEndSection.getDistance();
+        return downEndSection;
     }
 
-    private Station getDownEndStation() {
+    public Station getDownEndStation() {
         return sections.get(sections.size() - 1).getDownStation();
     }
 
+    public int getStationCount() {
+        return sections.isEmpty() ? 0 : sections.size() + 1;
+    }
+
     private void validateNewSection(Section section) {
-        if (!getDownEndStation().equals(section.getUpStation())) {
+        if (!getDownEndStation().getId().equals(section.getUpStation().getId())) {
             throw new IllegalArgumentException(ADD_ERROR_MESSAGE);
         }
-        if (getStations().contains(section.getDownStation())) {
+        if (stationIds.contains(section.getDownStation().getId())) {
             throw new IllegalArgumentException(ADD_DUPLICATE_ERROR_MESSAGE);
         }
     }
 
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
     public Long getDistance() {
-        return sections.stream().mapToLong(Section::getDistance).sum();
+        index();
+        return distance;
+    }
+
+    private void index() {
+        if (stationIds != null) {
+            return;
+        }
+        stationIds = new HashSet<>();
+        distance = 0L;
+        for (Section section : sections) {
+            stationIds.add(section.getUpStation().getId());
+            stationIds.add(section.getDownStation().getId());
+            distance += section.getDistance();
+        }
     }
 }
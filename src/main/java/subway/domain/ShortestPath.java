@@ -0,0 +1,20 @@
+package subway.domain;
+
+public class ShortestPath {
+
+    private final long[] stationIds;
+    private final long distance;
+
+    public ShortestPath(long[] stationIds, long distance) {
+        this.stationIds = stationIds;
+        this.distance = distance;
+    }
+
+    public long[] getStationIds() {
+        return stationIds;
+    }
+
+    public long getDistance() {
+        return distance;
+    }
+}
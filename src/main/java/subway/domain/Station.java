@@ -1,11 +1,17 @@
 package subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Station {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_seq_generator")
+    @SequenceGenerator(name = "station_seq_generator", sequenceName = "station_seq", allocationSize = 50)
     private Long id;
     @Column(length = 20, nullable = false)
     private String name;
@@ -0,0 +1,8 @@
+package subway.domain;
+
+public interface StationSummary {
+
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,191 @@
+package subway.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import subway.domain.OutboxEventRepository;
+import subway.ui.ChangeEventResponse;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 발행된 변경 이벤트를 Server-Sent Events 구독자에게 전달한다.
+ * 릴레이는 구독자마다 크기가 제한된 큐에 이벤트를 넣기만 하고, 실제 쓰기는 구독자별로 한 번에 하나씩 실행기에서 처리한다.
+ * 구독 시 요청한 offset 이후의 이벤트를 먼저 다시 보내고, 그동안 쌓인 큐를 이어서 보낸다.
+ * 구독자마다 마지막으로 보낸 offset 을 기억해 다시 보내기와 실시간 전달이 겹쳐도 같은 이벤트를 두 번 보내지 않는다.
+ * 큐가 넘친 구독자는 연결을 끊어, 마지막으로 받은 offset 으로 다시 구독하게 한다.
+ */
+@Component
+public class ChangeEventStream implements DisposableBean {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "change-event");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long timeoutMillis;
+    private final int queueSize;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public ChangeEventStream(OutboxEventRepository outboxEventRepository,
+                             @Value("${subway.events.sse-timeout-ms}") long timeoutMillis,
+                             @Value("${subway.events.subscriber-queue-size}") int queueSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.queueSize = queueSize;
+    }
+
+    public SseEmitter subscribe(Long after) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, after == null ? 0L : after);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+        // 다시 보내기보다 먼저 등록해야 그 사이에 발행된 묶음이 큐에 쌓여 offset 을 건너뛰지 않는다.
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return emitter;
+    }
+
+    public List<ChangeEventResponse> findEvents(Long after, Integer limit) {
+        KeysetPage page = KeysetPage.of(after, limit, null, Collections.emptySet());
+        return outboxEventRepository.findByPublishedOffsetGreaterThanOrderByPublishedOffsetAsc(page.getAfter(), page.toPageable())
+                .stream()
+                .map(ChangeEventResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    void broadcast(List<ChangeEventResponse> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(events);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<ChangeEventResponse> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean overflowed;
+        // 아래 필드는 scheduled 로 직렬화된 drain 안에서만 읽고 쓴다.
+        private long lastOffset;
+        private boolean replayed;
+        private boolean completed;
+
+        private Subscriber(SseEmitter emitter, long lastOffset) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.lastOffset = lastOffset;
+        }
+
+        private void enqueue(List<ChangeEventResponse> events) {
+            for (ChangeEventResponse event : events) {
+                if (closed) {
+                    return;
+                }
+                if (!queue.offer(event)) {
+                    // 쓰기 중인 emitter 를 릴레이가 건드리면 함께 막히므로, 끊는 일도 drain 에 맡긴다.
+                    overflowed = true;
+                    close();
+                    break;
+                }
+            }
+            schedule();
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                if (!replayed) {
+                    replayed = true;
+                    replay();
+                }
+                ChangeEventResponse event;
+                while (!closed && (event = queue.poll()) != null) {
+                    send(event);
+                }
+                if (overflowed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (RuntimeException e) {
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                scheduled.set(false);
+            }
+            // drain 이 끝나는 사이에 릴레이가 넣은 이벤트가 남지 않도록 다시 확인한다.
+            if ((!closed && !queue.isEmpty()) || (overflowed && !completed)) {
+                schedule();
+            }
+        }
+
+        private void replay() {
+            List<ChangeEventResponse> events;
+            do {
+                events = findEvents(lastOffset, null);
+                for (ChangeEventResponse event : events) {
+                    if (closed) {
+                        return;
+                    }
+                    send(event);
+                }
+            } while (!closed && !events.isEmpty());
+        }
+
+        private void send(ChangeEventResponse event) {
+            if (event.getOffset() <= lastOffset) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getOffset()))
+                        .data(event, MediaType.APPLICATION_JSON));
+                lastOffset = event.getOffset();
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
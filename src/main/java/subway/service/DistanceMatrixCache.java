@@ -0,0 +1,93 @@
+package subway.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.domain.DistanceMatrix;
+import subway.domain.SectionGraph;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * subway.path.all-pairs.enabled=true 이면 변경이 커밋될 때마다 백그라운드에서 전체 역 쌍 거리 행렬을 다시 계산한다.
+ * 계산 중 들어온 변경은 한 번의 재계산으로 합쳐지며, 완성된 행렬만 원자적으로 교체한다.
+ */
+@Component
+@ConditionalOnProperty(name = "subway.path.all-pairs.enabled", havingValue = "true")
+public class DistanceMatrixCache implements DisposableBean {
+
+    private final NetworkSnapshotCache networkSnapshotCache;
+    private final int maxStations;
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ExecutorService scheduler = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "distance-matrix");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicReference<DistanceMatrix> matrix = new AtomicReference<>();
+
+    public DistanceMatrixCache(NetworkSnapshotCache networkSnapshotCache,
+                               @Value("${subway.path.all-pairs.max-stations}") int maxStations) {
+        this.networkSnapshotCache = networkSnapshotCache;
+        this.maxStations = maxStations;
+    }
+
+    /**
+     * 스냅샷과 같은 세대의 행렬이 준비되어 있으면 반환하고, 아니면 재계산을 예약하고 null 을 반환한다.
+     * 변경 이벤트 없이 스냅샷만 무효화된 경우에도 행렬이 뒤처진 채로 남지 않는다.
+     */
+    public DistanceMatrix get(NetworkSnapshot snapshot) {
+        DistanceMatrix current = matrix.get();
+        if (current == null || current.getVersion() != snapshot.getVersion()) {
+            schedule();
+            return null;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        schedule();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void refresh(NetworkChangedEvent event) {
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::recompute);
+        }
+    }
+
+    private void recompute() {
+        scheduled.set(false);
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        DistanceMatrix current = matrix.get();
+        if (current != null && current.getVersion() == snapshot.getVersion()) {
+            return;
+        }
+        SectionGraph graph = snapshot.getGraph();
+        if (graph.getVertexCount() > maxStations || !DistanceMatrix.fits(graph.getVertexCount())) {
+            matrix.set(null);
+            return;
+        }
+        matrix.set(DistanceMatrix.of(snapshot.getVersion(), graph, pool));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,62 @@
+package subway.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * id 기준 커서({@code after})와 개수({@code limit}), 응답 필드({@code fields})를 검증한다.
+ * id 는 다음 페이지의 커서로 쓰이므로 항상 응답에 포함된다.
+ */
+public class KeysetPage {
+
+    private static final long FIRST_CURSOR = 0L;
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1_000;
+    private static final String ID_FIELD = "id";
+    private static final String ILLEGAL_LIMIT_ERROR_MESSAGE = "limit 은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.";
+    private static final String ILLEGAL_FIELD_ERROR_MESSAGE = "조회할 수 없는 필드입니다: ";
+
+    private final long after;
+    private final int limit;
+    private final Set<String> fields;
+
+    private KeysetPage(long after, int limit, Set<String> fields) {
+        this.after = after;
+        this.limit = limit;
+        this.fields = fields;
+    }
+
+    public static KeysetPage of(Long after, Integer limit, Set<String> fields, Set<String> allowedFields) {
+        int pageLimit = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageLimit < 1 || pageLimit > MAX_LIMIT) {
+            throw new IllegalArgumentException(ILLEGAL_LIMIT_ERROR_MESSAGE);
+        }
+        if (fields != null) {
+            fields.stream()
+                    .filter(field -> !allowedFields.contains(field))
+                    .findFirst()
+                    .ifPresent(field -> {
+                        throw new IllegalArgumentException(ILLEGAL_FIELD_ERROR_MESSAGE + field);
+                    });
+        }
+        return new KeysetPage(after == null ? FIRST_CURSOR : after, pageLimit, fields == null ? allowedFields : fields);
+    }
+
+    public long getAfter() {
+        return after;
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(0, limit);
+    }
+
+    public boolean includes(String field) {
+        return ID_FIELD.equals(field) || fields.contains(field);
+    }
+
+    public <T> T project(String field, T value) {
+        return includes(field) ? value : null;
+    }
+}
@@ -0,0 +1,40 @@
+package subway.service;
+
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Service;
+import subway.ui.LineResponse;
+import subway.ui.SectionBatchRequest;
+import subway.ui.SectionRequest;
+
+/**
+ * 노선 구간 변경을 {@link LineService}의 트랜잭션 밖에서 감싸, 낙관적 락 충돌 시 새 트랜잭션으로 다시 시도한다.
+ */
+@Service
+public class LineSectionService {
+
+    private final LineService lineService;
+    private final RetryTemplate optimisticLockRetryTemplate;
+
+    public LineSectionService(LineService lineService, RetryTemplate optimisticLockRetryTemplate) {
+        this.lineService = lineService;
+        this.optimisticLockRetryTemplate = optimisticLockRetryTemplate;
+    }
+
+    public void addSection(Long lineId, SectionRequest request) {
+        optimisticLockRetryTemplate.execute(context -> {
+            lineService.addSection(lineId, request);
+            return null;
+        });
+    }
+
+    public LineResponse changeSections(Long lineId, SectionBatchRequest request) {
+        return optimisticLockRetryTemplate.execute(context -> lineService.changeSections(lineId, request));
+    }
+
+    public void deleteSection(Long lineId, Long stationId) {
+        optimisticLockRetryTemplate.execute(context -> {
+            lineService.deleteSection(lineId, stationId);
+            return null;
+        });
+    }
+}
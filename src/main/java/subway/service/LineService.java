@@ -1,57 +1,116 @@
 package subway.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import subway.domain.*;
+import subway.ui.ETaggedResponse;
 import subway.ui.LineCreateRequest;
 import subway.ui.LineResponse;
 import subway.ui.LineUpdateRequest;
+import subway.ui.NetworkResponse;
+import subway.ui.SerializedResponse;
+import subway.ui.SectionBatchRequest;
 import subway.ui.SectionRequest;
 import subway.ui.exception.LineNotFoundException;
 import subway.ui.exception.StationNotFoundException;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "subway.service", histogram = true)
 @Transactional(readOnly = true)
 public class LineService {
 
+    private static final Set<String> LINE_FIELDS = Set.of("id", "name", "color", "stations");
+    private static final String INVALID_BATCH_ERROR_MESSAGE = "구간 일괄 변경 요청에 비어 있는 값이 있습니다.";
+
     private final LineRepository lineRepository;
     private final StationRepository stationRepository;
+    private final NetworkSnapshotCache networkSnapshotCache;
+    private final ResponseSerializer responseSerializer;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineService(LineRepository lineRepository, StationRepository stationRepository) {
+    public LineService(LineRepository lineRepository, StationRepository stationRepository,
+                       NetworkSnapshotCache networkSnapshotCache, ResponseSerializer responseSerializer,
+                       ApplicationEventPublisher eventPublisher) {
         this.lineRepository = lineRepository;
         this.stationRepository = stationRepository;
+        this.networkSnapshotCache = networkSnapshotCache;
+        this.responseSerializer = responseSerializer;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public LineResponse createLine(LineCreateRequest request) {
         Station upStation = findStationById(request.getUpStationId());
         Station downStation = findStationById(request.getDownStationId());
-        Line line = lineRepository.save(new Line(request.getName(), request.getColor(), request.getDistance()));
-        line.addSection(new Section(line.getId(), upStation, downStation, line.getDistance()));
+        Line line = lineRepository.save(new Line(request.getName(), request.getColor()));
+        line.addSection(new Section(line.getId(), upStation, downStation, request.getDistance()));
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.LINE_CREATED, line.getId()));
         return new LineResponse(line.getId(), line.getName());
     }
 
-    public List<LineResponse> showLines() {
-        List<Line> lines = lineRepository.findAll();
-        return lines.stream().map(LineResponse::from).collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ETaggedResponse<SerializedResponse> showSerializedLines() {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        return new ETaggedResponse<>(snapshot.getLinesETag(),
+                snapshot.getSerialized("lines", () -> responseSerializer.serialize(snapshot.getLines())));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ETaggedResponse<NetworkResponse> showNetwork() {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        return new ETaggedResponse<>(snapshot.getLinesETag(), snapshot.getNetwork());
+    }
+
+    public List<LineResponse> showLines(Long after, Integer limit, Set<String> fields) {
+        KeysetPage page = KeysetPage.of(after, limit, fields, LINE_FIELDS);
+        List<LineSummary> summaries = lineRepository.findByIdGreaterThanOrderByIdAsc(page.getAfter(), page.toPageable());
+        if (!page.includes("stations")) {
+            return summaries.stream()
+                    .map(line -> new LineResponse(line.getId(), page.project("name", line.getName()),
+                            page.project("color", line.getColor()), null))
+                    .collect(Collectors.toList());
+        }
+        if (summaries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> lineIds = summaries.stream().map(LineSummary::getId).collect(Collectors.toList());
+        return lineRepository.findAllWithStationsByIdIn(lineIds).stream()
+                .map(LineResponse::from)
+                .map(line -> new LineResponse(line.getId(), page.project("name", line.getName()),
+                        page.project("color", line.getColor()), line.getStations()))
+                .collect(Collectors.toList());
     }
 
-    public LineResponse showLine(Long lineId) {
-        return LineResponse.from(findLineById(lineId));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ETaggedResponse<LineResponse> showLine(Long lineId) {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        LineResponse line = snapshot.getLine(lineId).orElseThrow(LineNotFoundException::new);
+        return new ETaggedResponse<>(snapshot.getLineETag(lineId).orElseThrow(LineNotFoundException::new), line);
     }
 
     @Transactional
     public LineResponse updateLine(Long lineId, LineUpdateRequest request) {
         Line line = findLineById(lineId);
         line.update(request);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.LINE_UPDATED, lineId));
         return LineResponse.from(line);
     }
 
+    @Transactional
     public void deleteLine(Long lineId) {
         lineRepository.deleteById(lineId);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.LINE_DELETED, lineId));
     }
 
     @Transactional
@@ -61,18 +120,71 @@ public class LineService {
         Station downStation = findStationById(request.getDownStationId());
         Section section = new Section(lineId, upStation, downStation, request.getDistance());
         line.addSection(section);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.SECTIONS_CHANGED, lineId));
+    }
+
+    /**
+     * 하행 종점역 제거를 순서대로 적용한 뒤 구간을 순서대로 이어 붙인다.
+     * 요청에 등장하는 역은 한 번에 조회하며, 중간에 하나라도 실패하면 전체가 롤백된다.
+     */
+    @Transactional
+    public LineResponse changeSections(Long lineId, SectionBatchRequest request) {
+        validateBatch(request);
+        Line line = findLineById(lineId);
+        Map<Long, Station> stations = findStationsByIds(request.getSections());
+        for (Long stationId : request.getDeleteStationIds()) {
+            line.deleteSection(stationId);
+        }
+        for (SectionRequest sectionRequest : request.getSections()) {
+            Station upStation = stations.get(sectionRequest.getUpStationId());
+            Station downStation = stations.get(sectionRequest.getDownStationId());
+            line.addSection(new Section(lineId, upStation, downStation, sectionRequest.getDistance()));
+        }
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.SECTIONS_CHANGED, lineId));
+        return LineResponse.from(line);
     }
 
     @Transactional
     public void deleteSection(Long lineId, Long stationId) {
         Line line = findLineById(lineId);
         line.deleteSection(stationId);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.SECTIONS_CHANGED, lineId));
     }
 
     private Station findStationById(Long stationId) {
         return stationRepository.findById(stationId).orElseThrow(StationNotFoundException::new);
     }
 
+    private void validateBatch(SectionBatchRequest request) {
+        List<Long> deleteStationIds = request.getDeleteStationIds();
+        List<SectionRequest> sections = request.getSections();
+        if (deleteStationIds == null || sections == null || deleteStationIds.contains(null)) {
+            throw new IllegalArgumentException(INVALID_BATCH_ERROR_MESSAGE);
+        }
+        for (SectionRequest section : sections) {
+            if (section == null || section.getDistance() == null) {
+                throw new IllegalArgumentException(INVALID_BATCH_ERROR_MESSAGE);
+            }
+        }
+    }
+
+    private Map<Long, Station> findStationsByIds(List<SectionRequest> requests) {
+        Set<Long> stationIds = new HashSet<>();
+        for (SectionRequest request : requests) {
+            stationIds.add(request.getUpStationId());
+            stationIds.add(request.getDownStationId());
+        }
+        if (stationIds.contains(null)) {
+            throw new StationNotFoundException();
+        }
+        Map<Long, Station> stations = stationRepository.findAllById(stationIds).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (stations.size() != stationIds.size()) {
+            throw new StationNotFoundException();
+        }
+        return stations;
+    }
+
     private Line findLineById(Long lineId) {
         return lineRepository.findById(lineId).orElseThrow(LineNotFoundException::new);
     }
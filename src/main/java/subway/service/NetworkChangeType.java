@@ -0,0 +1,11 @@
+package subway.service;
+
+public enum NetworkChangeType {
+    STATION_CREATED,
+    STATION_DELETED,
+    LINE_CREATED,
+    LINE_UPDATED,
+    LINE_DELETED,
+    SECTIONS_CHANGED,
+    NETWORK_IMPORTED
+}
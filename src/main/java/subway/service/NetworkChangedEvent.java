@@ -0,0 +1,23 @@
+package subway.service;
+
+/**
+ * 노선도 변경을 알리는 이벤트. 대상이 하나로 정해지지 않는 변경은 targetId 가 null 이다.
+ */
+public class NetworkChangedEvent {
+
+    private final NetworkChangeType type;
+    private final Long targetId;
+
+    public NetworkChangedEvent(NetworkChangeType type, Long targetId) {
+        this.type = type;
+        this.targetId = targetId;
+    }
+
+    public NetworkChangeType getType() {
+        return type;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+}
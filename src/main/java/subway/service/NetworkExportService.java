@@ -0,0 +1,110 @@
+package subway.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.domain.LineRepository;
+import subway.domain.LineStationRow;
+import subway.domain.Station;
+import subway.domain.StationRepository;
+import subway.ui.LineResponse;
+import subway.ui.StationResponse;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 역과 노선을 커서로 한 행씩 읽어 NDJSON 으로 바로 출력한다.
+ * 전체 목록을 메모리에 올리지 않으며, 영속성 컨텍스트도 주기적으로 비운다.
+ */
+@Service
+@Timed(value = "subway.service", histogram = true)
+@Transactional(readOnly = true)
+public class NetworkExportService {
+
+    private static final int CLEAR_SIZE = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+    private final ObjectMapper objectMapper;
+
+    public NetworkExportService(StationRepository stationRepository, LineRepository lineRepository,
+                                ObjectMapper objectMapper) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportStations(OutputStream output) throws IOException {
+        try (Stream<Station> stations = stationRepository.streamAll();
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, output)) {
+            long count = 0;
+            Iterator<Station> iterator = stations.iterator();
+            while (iterator.hasNext()) {
+                writer.write(StationResponse.from(iterator.next()));
+                if (++count % CLEAR_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    public void exportLines(OutputStream output) throws IOException {
+        try (Stream<LineStationRow> rows = lineRepository.streamAllStationRows();
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, output)) {
+            LineRows current = null;
+            Iterator<LineStationRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                LineStationRow row = iterator.next();
+                if (current == null || !current.isSameLine(row)) {
+                    if (current != null) {
+                        writer.write(current.toResponse());
+                    }
+                    current = new LineRows(row);
+                }
+                current.add(row);
+            }
+            if (current != null) {
+                writer.write(current.toResponse());
+            }
+        }
+    }
+
+    private static class LineRows {
+
+        private final LineStationRow first;
+        private final List<StationResponse> stations = new ArrayList<>();
+
+        private LineRows(LineStationRow first) {
+            this.first = first;
+        }
+
+        private boolean isSameLine(LineStationRow row) {
+            return first.getLineId().equals(row.getLineId());
+        }
+
+        private void add(LineStationRow row) {
+            if (!row.hasSection()) {
+                return;
+            }
+            if (stations.isEmpty()) {
+                stations.add(new StationResponse(row.getUpStationId(), row.getUpStationName()));
+            }
+            stations.add(new StationResponse(row.getDownStationId(), row.getDownStationName()));
+        }
+
+        private LineResponse toResponse() {
+            return new LineResponse(first.getLineId(), first.getLineName(), first.getLineColor(), stations);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package subway.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.ui.ImportRecord;
+import subway.ui.ImportResponse;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON Lines 형식의 역, 노선, 구간 레코드를 스트리밍으로 읽어 한 트랜잭션에서 저장한다.
+ * 노선별로 하행 종점역과 등록된 역, 거리만 기억해 구간 규칙을 검증하고, 일정 개수마다 flush/clear 하여 배치 insert 로 기록한다.
+ */
+@Service
+@Timed(value = "subway.service", histogram = true)
+public class NetworkImportService {
+
+    private static final int FLUSH_SIZE = 1_000;
+    private static final String INVALID_RECORD_ERROR_MESSAGE = "%d번째 레코드를 읽을 수 없습니다.";
+    private static final String MISSING_FIELD_ERROR_MESSAGE = "%d번째 레코드에 필수 값이 없습니다.";
+    private static final String UNKNOWN_TYPE_ERROR_MESSAGE = "%d번째 레코드의 type 이 올바르지 않습니다.";
+    private static final String DUPLICATE_KEY_ERROR_MESSAGE = "%d번째 레코드의 key 가 중복되었습니다.";
+    private static final String UNKNOWN_KEY_ERROR_MESSAGE = "%d번째 레코드가 존재하지 않는 key 를 참조합니다.";
+    private static final String EMPTY_LINE_ERROR_MESSAGE = "구간이 없는 노선은 가져올 수 없습니다.";
+    private static final String ADD_ERROR_MESSAGE = "새로운 구간의 상행역은 해당 노선에 등록되어있는 하행 종점역이어야 합니다.";
+    private static final String ADD_DUPLICATE_ERROR_MESSAGE = "새로운 구간의 하행역이 해당 노선에 등록되어있으면 안됩니다.";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectReader recordReader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NetworkImportService(ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        this.recordReader = objectMapper.readerFor(ImportRecord.class);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public ImportResponse importNetwork(InputStream input) throws IOException {
+        Map<String, Long> stationIds = new HashMap<>();
+        Map<String, ImportedLine> lines = new HashMap<>();
+        long sectionCount = 0;
+        int recordNumber = 0;
+        boolean linesPending = false;
+
+        try (MappingIterator<ImportRecord> records = readRecords(input)) {
+            ImportRecord record;
+            while ((record = nextRecord(records, recordNumber + 1)) != null) {
+                recordNumber++;
+                switch (String.valueOf(record.getType())) {
+                    case ImportRecord.STATION:
+                        requireFields(recordNumber, record.getName());
+                        Station station = new Station(record.getName());
+                        entityManager.persist(station);
+                        putUnique(stationIds, record.getKey(), station.getId(), recordNumber);
+                        break;
+                    case ImportRecord.LINE:
+                        requireFields(recordNumber, record.getName(), record.getColor());
+                        Line line = new Line(record.getName(), record.getColor());
+                        entityManager.persist(line);
+                        linesPending = true;
+                        putUnique(lines, record.getKey(), new ImportedLine(line.getId()), recordNumber);
+                        break;
+                    case ImportRecord.SECTION:
+                        requireFields(recordNumber, record.getDistance());
+                        ImportedLine importedLine = find(lines, record.getLine(), recordNumber);
+                        if (linesPending) {
+                            // 구간은 노선을 id 로만 참조하므로 insert 정렬 시 노선보다 앞설 수 있다.
+                            // 외래 키를 위해 구간보다 먼저 쌓인 노선을 한 번에 기록한다.
+                            entityManager.flush();
+                            linesPending = false;
+                        }
+                        Long upStationId = find(stationIds, record.getUpStation(), recordNumber);
+                        Long downStationId = find(stationIds, record.getDownStation(), recordNumber);
+                        int position = importedLine.add(upStationId, downStationId, record.getDistance());
+                        entityManager.persist(new Section(
+                                importedLine.id,
+                                entityManager.getReference(Station.class, upStationId),
+                                entityManager.getReference(Station.class, downStationId),
+                                record.getDistance(),
+                                position
+                        ));
+                        sectionCount++;
+                        break;
+                    default:
+                        throw new IllegalArgumentException(String.format(UNKNOWN_TYPE_ERROR_MESSAGE, recordNumber));
+                }
+                if (recordNumber % FLUSH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    linesPending = false;
+                }
+            }
+        }
+
+        updateLineDistances(lines);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.NETWORK_IMPORTED, null));
+        return new ImportResponse(stationIds.size(), lines.size(), sectionCount);
+    }
+
+    private MappingIterator<ImportRecord> readRecords(InputStream input) throws IOException {
+        try {
+            return recordReader.readValues(input);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(String.format(INVALID_RECORD_ERROR_MESSAGE, 1), e);
+        }
+    }
+
+    private ImportRecord nextRecord(MappingIterator<ImportRecord> records, int recordNumber) throws IOException {
+        try {
+            return records.hasNextValue() ? records.nextValue() : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(String.format(INVALID_RECORD_ERROR_MESSAGE, recordNumber), e);
+        }
+    }
+
+    private void updateLineDistances(Map<String, ImportedLine> lines) {
+        for (ImportedLine line : lines.values()) {
+            if (line.stationIds.isEmpty()) {
+                throw new IllegalArgumentException(EMPTY_LINE_ERROR_MESSAGE);
+            }
+            entityManager.createQuery("update Line l set l.distance = :distance where l.id = :id")
+                    .setParameter("distance", line.distance)
+                    .setParameter("id", line.id)
+                    .executeUpdate();
+        }
+        entityManager.clear();
+    }
+
+    private void requireFields(int recordNumber, Object... values) {
+        for (Object value : values) {
+            if (value == null || (value instanceof String && ((String) value).isBlank())) {
+                throw new IllegalArgumentException(String.format(MISSING_FIELD_ERROR_MESSAGE, recordNumber));
+            }
+        }
+    }
+
+    private <T> void putUnique(Map<String, T> map, String key, T value, int recordNumber) {
+        if (key == null || map.putIfAbsent(key, value) != null) {
+            throw new IllegalArgumentException(String.format(DUPLICATE_KEY_ERROR_MESSAGE, recordNumber));
+        }
+    }
+
+    private <T> T find(Map<String, T> map, String key, int recordNumber) {
+        T value = key == null ? null : map.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException(String.format(UNKNOWN_KEY_ERROR_MESSAGE, recordNumber));
+        }
+        return value;
+    }
+
+    private static class ImportedLine {
+
+        private final Long id;
+        private final Set<Long> stationIds = new HashSet<>();
+        private Long downEndStationId;
+        private long distance;
+        private int sectionCount;
+
+        private ImportedLine(Long id) {
+            this.id = id;
+        }
+
+        private int add(Long upStationId, Long downStationId, Long sectionDistance) {
+            if (sectionCount > 0 && !downEndStationId.equals(upStationId)) {
+                throw new IllegalArgumentException(ADD_ERROR_MESSAGE);
+            }
+            if (stationIds.contains(downStationId)) {
+                throw new IllegalArgumentException(ADD_DUPLICATE_ERROR_MESSAGE);
+            }
+            stationIds.add(upStationId);
+            stationIds.add(downStationId);
+            downEndStationId = downStationId;
+            distance += sectionDistance;
+            return sectionCount++;
+        }
+    }
+}
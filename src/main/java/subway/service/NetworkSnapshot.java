@@ -0,0 +1,186 @@
+package subway.service;
+
+import subway.domain.Line;
+import subway.domain.SectionGraph;
+import subway.domain.Station;
+import subway.ui.LineResponse;
+import subway.ui.NetworkLineResponse;
+import subway.ui.NetworkResponse;
+import subway.ui.SerializedResponse;
+import subway.ui.StationResponse;
+import subway.ui.TransferStationResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class NetworkSnapshot {
+
+    private final long version;
+    private final List<LineResponse> lines;
+    private final Map<Long, LineResponse> linesById;
+    private final List<StationResponse> stations;
+    private final Map<Long, StationResponse> stationsById;
+    private final Map<Long, List<LineResponse>> linesByStationId;
+    private final List<TransferStationResponse> transferStations;
+    private final NetworkResponse network;
+    private final Map<String, SerializedResponse> serializedResponses = new ConcurrentHashMap<>();
+    private final SectionGraph graph;
+    private final Map<Long, String> lineETags;
+    private final String linesETag;
+    private final String stationsETag;
+
+    private NetworkSnapshot(long version, List<LineResponse> lines, List<StationResponse> stations, SectionGraph graph,
+                            Map<Long, Long> lineVersions) {
+        this.version = version;
+        this.lines = Collections.unmodifiableList(lines);
+        this.linesById = Collections.unmodifiableMap(lines.stream()
+                .collect(Collectors.toMap(LineResponse::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new)));
+        this.stations = Collections.unmodifiableList(stations);
+        this.stationsById = Collections.unmodifiableMap(stations.stream()
+                .collect(Collectors.toMap(StationResponse::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new)));
+        this.linesByStationId = Collections.unmodifiableMap(linesByStationId(lines));
+        this.transferStations = Collections.unmodifiableList(transferStations(this.stations, this.linesByStationId));
+        this.network = network(this.lines);
+        this.graph = graph;
+        this.lineETags = Collections.unmodifiableMap(lineVersions.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getKey() + "-" + entry.getValue())));
+        this.linesETag = linesETag(lineVersions);
+        this.stationsETag = stationsETag(this.stations);
+    }
+
+    public static NetworkSnapshot of(long version, List<Line> lines, List<Station> stations) {
+        return new NetworkSnapshot(
+                version,
+                lines.stream().map(LineResponse::from).collect(Collectors.toList()),
+                stations.stream().map(StationResponse::from).collect(Collectors.toList()),
+                SectionGraph.of(lines.stream()
+                        .flatMap(line -> line.getSections().stream())
+                        .collect(Collectors.toList())),
+                lines.stream().collect(Collectors.toMap(Line::getId, Line::getVersion, (a, b) -> a, LinkedHashMap::new))
+        );
+    }
+
+    private static Map<Long, List<LineResponse>> linesByStationId(List<LineResponse> lines) {
+        Map<Long, List<LineResponse>> linesByStationId = new LinkedHashMap<>();
+        for (LineResponse line : lines) {
+            LineResponse summary = new LineResponse(line.getId(), line.getName(), line.getColor(), null);
+            for (StationResponse station : line.getStations()) {
+                linesByStationId.computeIfAbsent(station.getId(), id -> new ArrayList<>()).add(summary);
+            }
+        }
+        linesByStationId.replaceAll((stationId, stationLines) -> Collections.unmodifiableList(stationLines));
+        return linesByStationId;
+    }
+
+    private static List<TransferStationResponse> transferStations(List<StationResponse> stations,
+                                                                  Map<Long, List<LineResponse>> linesByStationId) {
+        List<TransferStationResponse> transferStations = new ArrayList<>();
+        for (StationResponse station : stations) {
+            List<LineResponse> stationLines = linesByStationId.getOrDefault(station.getId(), Collections.emptyList());
+            if (stationLines.size() > 1) {
+                transferStations.add(new TransferStationResponse(station.getId(), station.getName(), stationLines));
+            }
+        }
+        return transferStations;
+    }
+
+    private static NetworkResponse network(List<LineResponse> lines) {
+        Map<Long, Integer> stationIndexes = new HashMap<>();
+        List<StationResponse> dictionary = new ArrayList<>();
+        List<NetworkLineResponse> networkLines = new ArrayList<>(lines.size());
+        for (LineResponse line : lines) {
+            int[] stationIndexesOfLine = new int[line.getStations().size()];
+            for (int i = 0; i < stationIndexesOfLine.length; i++) {
+                StationResponse station = line.getStations().get(i);
+                stationIndexesOfLine[i] = stationIndexes.computeIfAbsent(station.getId(), id -> {
+                    dictionary.add(station);
+                    return dictionary.size() - 1;
+                });
+            }
+            networkLines.add(new NetworkLineResponse(line.getId(), line.getName(), line.getColor(), stationIndexesOfLine));
+        }
+        return new NetworkResponse(Collections.unmodifiableList(dictionary), Collections.unmodifiableList(networkLines));
+    }
+
+    private static String linesETag(Map<Long, Long> lineVersions) {
+        long hash = 1L;
+        for (Map.Entry<Long, Long> entry : lineVersions.entrySet()) {
+            hash = 31 * hash + entry.getKey();
+            hash = 31 * hash + entry.getValue();
+        }
+        return "lines-" + lineVersions.size() + "-" + Long.toHexString(hash);
+    }
+
+    private static String stationsETag(List<StationResponse> stations) {
+        long hash = 1L;
+        for (StationResponse station : stations) {
+            hash = 31 * hash + station.getId();
+            hash = 31 * hash + station.getName().hashCode();
+        }
+        return "stations-" + stations.size() + "-" + Long.toHexString(hash);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<LineResponse> getLines() {
+        return lines;
+    }
+
+    public Optional<LineResponse> getLine(Long lineId) {
+        return Optional.ofNullable(linesById.get(lineId));
+    }
+
+    /**
+     * 이 세대의 응답을 직렬화한 결과를 이름별로 한 번만 만들어 둔다. 세대가 바뀌면 스냅샷과 함께 버려진다.
+     */
+    public SerializedResponse getSerialized(String name, Supplier<SerializedResponse> serializer) {
+        return serializedResponses.computeIfAbsent(name, key -> serializer.get());
+    }
+
+    public NetworkResponse getNetwork() {
+        return network;
+    }
+
+    public String getLinesETag() {
+        return linesETag;
+    }
+
+    public Optional<String> getLineETag(Long lineId) {
+        return Optional.ofNullable(lineETags.get(lineId));
+    }
+
+    public String getStationsETag() {
+        return stationsETag;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public Optional<StationResponse> getStation(Long stationId) {
+        return Optional.ofNullable(stationsById.get(stationId));
+    }
+
+    public List<LineResponse> getLinesByStationId(Long stationId) {
+        return linesByStationId.getOrDefault(stationId, Collections.emptyList());
+    }
+
+    public List<TransferStationResponse> getTransferStations() {
+        return transferStations;
+    }
+
+    public SectionGraph getGraph() {
+        return graph;
+    }
+}
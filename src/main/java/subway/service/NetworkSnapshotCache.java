@@ -0,0 +1,82 @@
+package subway.service;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.domain.LineRepository;
+import subway.domain.StationRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노선, 구간, 역 전체를 불변 스냅샷으로 보관하고 조회 요청에 제공한다.
+ * 변경이 커밋되면 세대 번호를 올려 다음 조회 시 스냅샷을 다시 만든다.
+ * 스냅샷을 바탕으로 하는 다른 리스너가 새 세대를 보도록 가장 먼저 무효화한다.
+ * 다시 만드는 일은 한 스레드만 하고, 그동안 들어온 조회는 기다렸다가 그 결과를 함께 쓴다.
+ */
+@Component
+public class NetworkSnapshotCache {
+
+    private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<NetworkSnapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public NetworkSnapshotCache(LineRepository lineRepository, StationRepository stationRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public NetworkSnapshot get() {
+        NetworkSnapshot current = snapshot.get();
+        if (isCurrent(current)) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            current = snapshot.get();
+            if (isCurrent(current)) {
+                return current;
+            }
+            return load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private boolean isCurrent(NetworkSnapshot current) {
+        return current != null && current.getVersion() == generation.get();
+    }
+
+    private NetworkSnapshot load() {
+        long version = generation.get();
+        NetworkSnapshot loaded = readOnlyTransaction.execute(status -> NetworkSnapshot.of(
+                version,
+                lineRepository.findAllWithStations(),
+                stationRepository.findAll()
+        ));
+        snapshot.accumulateAndGet(loaded, (current, next) ->
+                current == null || current.getVersion() < next.getVersion() ? next : current);
+        return loaded;
+    }
+}
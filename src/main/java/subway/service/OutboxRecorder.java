@@ -0,0 +1,26 @@
+package subway.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.domain.OutboxEvent;
+import subway.domain.OutboxEventRepository;
+
+/**
+ * 변경 이벤트를 커밋 직전에 outbox 테이블에 기록한다.
+ * 변경과 같은 트랜잭션에 저장되므로 롤백된 변경은 기록되지 않고, 커밋된 변경은 빠짐없이 기록된다.
+ */
+@Component
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OutboxRecorder(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void record(NetworkChangedEvent event) {
+        outboxEventRepository.save(new OutboxEvent(event.getType().name(), event.getTargetId()));
+    }
+}
@@ -0,0 +1,57 @@
+package subway.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.domain.OutboxEvent;
+import subway.domain.OutboxEventRepository;
+import subway.ui.ChangeEventResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 아직 발행되지 않은 outbox 이벤트에 기록 순서대로 offset 을 부여하고, 커밋된 뒤 구독자에게 묶음으로 전달한다.
+ * offset 은 발행 시점에 부여하므로 트랜잭션의 커밋 순서가 id 순서와 달라도 소비자가 보는 offset 에는 빈틈이 없다.
+ * 애플리케이션 인스턴스 하나에서만 릴레이가 동작한다고 가정한다.
+ */
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeEventStream changeEventStream;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, ChangeEventStream changeEventStream,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${subway.outbox.relay-batch-size}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.changeEventStream = changeEventStream;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${subway.outbox.relay-interval-ms}")
+    public void relay() {
+        List<ChangeEventResponse> published;
+        do {
+            published = transaction.execute(status -> publishBatch());
+            changeEventStream.broadcast(published);
+        } while (published.size() == batchSize);
+    }
+
+    private List<ChangeEventResponse> publishBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findByPublishedOffsetIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        long offset = outboxEventRepository.findLastPublishedOffset();
+        for (OutboxEvent event : events) {
+            event.publish(++offset);
+        }
+        return events.stream()
+                .map(ChangeEventResponse::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,85 @@
+package subway.service;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import subway.domain.DijkstraWorkspace;
+import subway.domain.DistanceMatrix;
+import subway.domain.ShortestPath;
+import subway.ui.DistanceResponse;
+import subway.ui.PathResponse;
+import subway.ui.StationResponse;
+import subway.ui.exception.StationNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Timed(value = "subway.service", histogram = true)
+public class PathService {
+
+    private static final String SAME_STATION_ERROR_MESSAGE = "출발역과 도착역이 같습니다.";
+    private static final String NOT_CONNECTED_ERROR_MESSAGE = "출발역과 도착역이 연결되어 있지 않습니다.";
+
+    private final NetworkSnapshotCache networkSnapshotCache;
+    private final DistanceMatrixCache distanceMatrixCache;
+    private final ThreadLocal<DijkstraWorkspace> workspaces = ThreadLocal.withInitial(DijkstraWorkspace::new);
+
+    public PathService(NetworkSnapshotCache networkSnapshotCache, ObjectProvider<DistanceMatrixCache> distanceMatrixCache) {
+        this.networkSnapshotCache = networkSnapshotCache;
+        this.distanceMatrixCache = distanceMatrixCache.getIfAvailable();
+    }
+
+    public PathResponse findPath(Long sourceId, Long targetId) {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        validateStations(snapshot, sourceId, targetId);
+
+        ShortestPath path = shortestPath(snapshot, sourceId, targetId)
+                .orElseThrow(() -> new IllegalArgumentException(NOT_CONNECTED_ERROR_MESSAGE));
+
+        List<StationResponse> stations = new ArrayList<>(path.getStationIds().length);
+        for (long stationId : path.getStationIds()) {
+            stations.add(findStation(snapshot, stationId));
+        }
+        return new PathResponse(stations, path.getDistance());
+    }
+
+    public DistanceResponse findDistance(Long sourceId, Long targetId) {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        validateStations(snapshot, sourceId, targetId);
+
+        DistanceMatrix matrix = findMatrix(snapshot);
+        long distance = matrix != null
+                ? matrix.distance(sourceId, targetId)
+                : shortestPath(snapshot, sourceId, targetId).map(ShortestPath::getDistance).orElse(DistanceMatrix.UNREACHABLE);
+        if (distance == DistanceMatrix.UNREACHABLE) {
+            throw new IllegalArgumentException(NOT_CONNECTED_ERROR_MESSAGE);
+        }
+        return new DistanceResponse(sourceId, targetId, distance);
+    }
+
+    private Optional<ShortestPath> shortestPath(NetworkSnapshot snapshot, Long sourceId, Long targetId) {
+        DistanceMatrix matrix = findMatrix(snapshot);
+        if (matrix != null) {
+            return matrix.path(sourceId, targetId);
+        }
+        return snapshot.getGraph().shortestPath(sourceId, targetId, workspaces.get());
+    }
+
+    private DistanceMatrix findMatrix(NetworkSnapshot snapshot) {
+        return distanceMatrixCache == null ? null : distanceMatrixCache.get(snapshot);
+    }
+
+    private void validateStations(NetworkSnapshot snapshot, Long sourceId, Long targetId) {
+        findStation(snapshot, sourceId);
+        findStation(snapshot, targetId);
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException(SAME_STATION_ERROR_MESSAGE);
+        }
+    }
+
+    private StationResponse findStation(NetworkSnapshot snapshot, Long stationId) {
+        return snapshot.getStation(stationId).orElseThrow(StationNotFoundException::new);
+    }
+}
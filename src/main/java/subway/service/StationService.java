@@ -1,39 +1,111 @@
 package subway.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import subway.ui.ETaggedResponse;
+import subway.ui.LineResponse;
+import subway.ui.SerializedResponse;
 import subway.ui.StationRequest;
 import subway.ui.StationResponse;
+import subway.ui.TransferStationResponse;
+import subway.domain.SectionRepository;
 import subway.domain.Station;
 import subway.domain.StationRepository;
+import subway.ui.exception.StationInUseException;
+import subway.ui.exception.StationNotFoundException;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "subway.service", histogram = true)
 @Transactional(readOnly = true)
 public class StationService {
+    private static final Set<String> STATION_FIELDS = Set.of("id", "name");
+
     private StationRepository stationRepository;
+    private SectionRepository sectionRepository;
+    private NetworkSnapshotCache networkSnapshotCache;
+    private ResponseSerializer responseSerializer;
+    private ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, SectionRepository sectionRepository,
+                          NetworkSnapshotCache networkSnapshotCache, ResponseSerializer responseSerializer,
+                          ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.sectionRepository = sectionRepository;
+        this.networkSnapshotCache = networkSnapshotCache;
+        this.responseSerializer = responseSerializer;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.STATION_CREATED, station.getId()));
         return createStationResponse(station);
     }
 
-    public List<StationResponse> findAllStations() {
-        return stationRepository.findAll().stream()
-                .map(this::createStationResponse)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ETaggedResponse<List<StationResponse>> findAllStations() {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        return new ETaggedResponse<>(snapshot.getStationsETag(), snapshot.getStations());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ETaggedResponse<SerializedResponse> findAllStationsSerialized() {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        return new ETaggedResponse<>(snapshot.getStationsETag(),
+                snapshot.getSerialized("stations", () -> responseSerializer.serialize(snapshot.getStations())));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LineResponse> findLinesByStationId(Long stationId) {
+        NetworkSnapshot snapshot = networkSnapshotCache.get();
+        if (snapshot.getStation(stationId).isEmpty()) {
+            throw new StationNotFoundException();
+        }
+        return snapshot.getLinesByStationId(stationId);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TransferStationResponse> findTransferStations() {
+        return networkSnapshotCache.get().getTransferStations();
+    }
+
+    public List<StationResponse> findStations(Long after, Integer limit, Set<String> fields) {
+        KeysetPage page = KeysetPage.of(after, limit, fields, STATION_FIELDS);
+        return stationRepository.findByIdGreaterThanOrderByIdAsc(page.getAfter(), page.toPageable()).stream()
+                .map(station -> new StationResponse(station.getId(), page.project("name", station.getName())))
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public void deleteStationById(Long id) {
+        if (sectionRepository.existsByUpStationIdOrDownStationId(id, id)) {
+            throw new StationInUseException();
+        }
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.STATION_DELETED, id));
+    }
+
+    @Transactional
+    public void deleteStationsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (sectionRepository.existsByUpStationIdInOrDownStationIdIn(ids, ids)) {
+            throw new StationInUseException();
+        }
+        List<Long> existingIds = stationRepository.findIdsByIdIn(ids);
+        stationRepository.deleteAllByIdInBatch(existingIds);
+        for (Long id : existingIds) {
+            eventPublisher.publishEvent(new NetworkChangedEvent(NetworkChangeType.STATION_DELETED, id));
+        }
     }
 
     private StationResponse createStationResponse(Station station) {
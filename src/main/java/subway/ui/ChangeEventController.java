@@ -0,0 +1,36 @@
+package subway.ui;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import subway.service.ChangeEventStream;
+
+import java.util.List;
+
+@RestController
+public class ChangeEventController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final ChangeEventStream changeEventStream;
+
+    public ChangeEventController(ChangeEventStream changeEventStream) {
+        this.changeEventStream = changeEventStream;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(value = "after", required = false) Long after,
+                                @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        return changeEventStream.subscribe(lastEventId != null ? lastEventId : after);
+    }
+
+    @GetMapping("/events/history")
+    public ResponseEntity<List<ChangeEventResponse>> showEvents(@RequestParam(value = "after", required = false) Long after,
+                                                                @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok().body(changeEventStream.findEvents(after, limit));
+    }
+}
@@ -0,0 +1,37 @@
+package subway.ui;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import subway.domain.OutboxEvent;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEventResponse {
+
+    private Long offset;
+    private String type;
+    private Long targetId;
+
+    public ChangeEventResponse(Long offset, String type, Long targetId) {
+        this.offset = offset;
+        this.type = type;
+        this.targetId = targetId;
+    }
+
+    public ChangeEventResponse() {
+    }
+
+    public static ChangeEventResponse from(OutboxEvent event) {
+        return new ChangeEventResponse(event.getPublishedOffset(), event.getEventType(), event.getTargetId());
+    }
+
+    public Long getOffset() {
+        return offset;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+}
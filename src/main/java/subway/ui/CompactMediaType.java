@@ -0,0 +1,38 @@
+package subway.ui;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+public class CompactMediaType {
+
+    public static final String APPLICATION_CBOR_VALUE = "application/cbor";
+    public static final MediaType APPLICATION_CBOR = MediaType.valueOf(APPLICATION_CBOR_VALUE);
+
+    private CompactMediaType() {
+    }
+
+    /**
+     * Accept 헤더를 구체성과 q 값 순으로 정렬했을 때 CBOR 가 JSON 보다 앞서는지 확인한다.
+     * q=0 인 타입은 거부로 보고 건너뛰며, JSON 이 기본값으로 남도록 와일드카드는 무시한다.
+     */
+    public static boolean isRequested(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0.0) {
+                continue;
+            }
+            if (APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+                return true;
+            }
+            if (MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType)) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package subway.ui;
+
+public class DistanceResponse {
+
+    private Long source;
+    private Long target;
+    private Long distance;
+
+    public DistanceResponse(Long source, Long target, Long distance) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+    }
+
+    public DistanceResponse() {
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public Long getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,24 @@
+package subway.ui;
+
+/**
+ * 같은 노선도 스냅샷에서 꺼낸 ETag 와 응답 본문.
+ * 둘을 따로 조회하면 그 사이에 스냅샷이 바뀌어 다른 세대의 ETag 와 본문이 짝지어질 수 있다.
+ */
+public class ETaggedResponse<T> {
+
+    private final String eTag;
+    private final T body;
+
+    public ETaggedResponse(String eTag, T body) {
+        this.eTag = eTag;
+        this.body = body;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public T getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,35 @@
+package subway.ui;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import subway.service.NetworkExportService;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+public class ExportController {
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final NetworkExportService networkExportService;
+
+    public ExportController(NetworkExportService networkExportService) {
+        this.networkExportService = networkExportService;
+    }
+
+    @GetMapping(value = "/stations/export", produces = NDJSON_VALUE)
+    public void exportStations(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        networkExportService.exportStations(response.getOutputStream());
+    }
+
+    @GetMapping(value = "/lines/export", produces = NDJSON_VALUE)
+    public void exportLines(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        networkExportService.exportLines(response.getOutputStream());
+    }
+}
@@ -0,0 +1,27 @@
+package subway.ui;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import subway.service.NetworkImportService;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+public class ImportController {
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final NetworkImportService networkImportService;
+
+    public ImportController(NetworkImportService networkImportService) {
+        this.networkImportService = networkImportService;
+    }
+
+    @PostMapping(value = "/imports", consumes = {NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ImportResponse> importNetwork(InputStream body) throws IOException {
+        return ResponseEntity.ok().body(networkImportService.importNetwork(body));
+    }
+}
@@ -0,0 +1,52 @@
+package subway.ui;
+
+public class ImportRecord {
+
+    public static final String STATION = "station";
+    public static final String LINE = "line";
+    public static final String SECTION = "section";
+
+    private String type;
+    private String key;
+    private String name;
+    private String color;
+    private String line;
+    private String upStation;
+    private String downStation;
+    private Long distance;
+
+    public ImportRecord() {
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getUpStation() {
+        return upStation;
+    }
+
+    public String getDownStation() {
+        return downStation;
+    }
+
+    public Long getDistance() {
+        return distance;
+    }
+}
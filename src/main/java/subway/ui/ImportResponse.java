@@ -0,0 +1,29 @@
+package subway.ui;
+
+public class ImportResponse {
+
+    private long stations;
+    private long lines;
+    private long sections;
+
+    public ImportResponse(long stations, long lines, long sections) {
+        this.stations = stations;
+        this.lines = lines;
+        this.sections = sections;
+    }
+
+    public ImportResponse() {
+    }
+
+    public long getStations() {
+        return stations;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getSections() {
+        return sections;
+    }
+}
@@ -1,19 +1,25 @@
 package subway.ui;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import subway.service.LineSectionService;
 import subway.service.LineService;
 
 import java.net.URI;
-import java.util.List;
+import java.util.Set;
 
 @RestController
 public class LineController {
 
     private final LineService lineService;
+    private final LineSectionService lineSectionService;
 
-    public LineController(LineService lineService) {
+    public LineController(LineService lineService, LineSectionService lineSectionService) {
         this.lineService = lineService;
+        this.lineSectionService = lineSectionService;
     }
 
     @PostMapping("/lines")
@@ -22,14 +28,42 @@ public class LineController {
         return ResponseEntity.created(URI.create("/lines/" + response.getId())).body(response);
     }
 
-    @GetMapping("/lines")
-    public ResponseEntity<List<LineResponse>> showLines() {
-        return ResponseEntity.ok().body(lineService.showLines());
+    @GetMapping(value = "/lines", produces = {MediaType.APPLICATION_JSON_VALUE, CompactMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<?> showLines(@RequestParam(value = "after", required = false) Long after,
+                                       @RequestParam(value = "limit", required = false) Integer limit,
+                                       @RequestParam(value = "fields", required = false) Set<String> fields,
+                                       WebRequest webRequest) {
+        if (after == null && limit == null && fields == null) {
+            if (CompactMediaType.isRequested(webRequest.getHeader(HttpHeaders.ACCEPT))) {
+                ETaggedResponse<NetworkResponse> network = lineService.showNetwork();
+                String eTag = network.getETag() + "-cbor";
+                if (webRequest.checkNotModified(eTag)) {
+                    return null;
+                }
+                return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                        .body(network.getBody());
+            }
+            ETaggedResponse<SerializedResponse> lines = lineService.showSerializedLines();
+            boolean gzip = SerializedResponse.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            String eTag = gzip ? lines.getETag() + "-gzip" : lines.getETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return lines.getBody().toResponseEntity(
+                    ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), gzip);
+        }
+        return ResponseEntity.ok().body(lineService.showLines(after, limit, fields));
     }
 
-    @GetMapping("/lines/{id}")
-    public ResponseEntity<LineResponse> showLine(@PathVariable(value = "id") Long lineId) {
-        return ResponseEntity.ok().body(lineService.showLine(lineId));
+    @GetMapping(value = "/lines/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, CompactMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<LineResponse> showLine(@PathVariable(value = "id") Long lineId, WebRequest webRequest) {
+        ETaggedResponse<LineResponse> line = lineService.showLine(lineId);
+        boolean cbor = CompactMediaType.isRequested(webRequest.getHeader(HttpHeaders.ACCEPT));
+        String eTag = cbor ? line.getETag() + "-cbor" : line.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(line.getBody());
     }
 
     @PutMapping("/lines/{id}")
@@ -47,15 +81,21 @@ public class LineController {
     @PostMapping("/lines/{id}/sections")
     public ResponseEntity<Void> addSection(@PathVariable(value = "id") Long lineId,
                                            @RequestBody SectionRequest request) {
-        lineService.addSection(lineId, request);
+        lineSectionService.addSection(lineId, request);
         return ResponseEntity.created(URI.create("/lines/" + lineId)).build();
     }
 
+    @PostMapping("/lines/{id}/sections:batch")
+    public ResponseEntity<LineResponse> changeSections(@PathVariable(value = "id") Long lineId,
+                                                       @RequestBody SectionBatchRequest request) {
+        return ResponseEntity.ok().body(lineSectionService.changeSections(lineId, request));
+    }
+
     @DeleteMapping("/lines/{id}/sections")
     public ResponseEntity<Void> deleteSection(@PathVariable(value = "id") Long lineId,
                                               @RequestParam(value = "stationId") Long stationId) {
 
-        lineService.deleteSection(lineId, stationId);
+        lineSectionService.deleteSection(lineId, stationId);
         return ResponseEntity.noContent().build();
     }
 }
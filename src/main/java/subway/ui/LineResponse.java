@@ -1,10 +1,13 @@
 package subway.ui;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import subway.domain.Line;
+import subway.domain.Station;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class LineResponse {
 
     private Long id;
@@ -24,15 +27,12 @@ public class LineResponse {
     }
 
     public static LineResponse from(Line line) {
-        return new LineResponse(
-                line.getId(),
-                line.getName(),
-                line.getColor(),
-                line.getStations()
-                        .stream()
-                        .map(StationResponse::from)
-                        .collect(Collectors.toList())
-        );
+        List<Station> stations = line.getStations();
+        List<StationResponse> stationResponses = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            stationResponses.add(StationResponse.from(station));
+        }
+        return new LineResponse(line.getId(), line.getName(), line.getColor(), stationResponses);
     }
 
     public LineResponse() {
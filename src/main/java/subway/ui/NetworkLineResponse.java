@@ -0,0 +1,35 @@
+package subway.ui;
+
+public class NetworkLineResponse {
+
+    private Long id;
+    private String name;
+    private String color;
+    private int[] stations;
+
+    public NetworkLineResponse(Long id, String name, String color, int[] stations) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.stations = stations;
+    }
+
+    public NetworkLineResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int[] getStations() {
+        return stations;
+    }
+}
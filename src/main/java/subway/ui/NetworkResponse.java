@@ -0,0 +1,29 @@
+package subway.ui;
+
+import java.util.List;
+
+/**
+ * 역을 한 번씩만 담은 사전과, 그 사전의 인덱스로 역을 가리키는 노선 목록.
+ * GET /lines 를 application/cbor 로 요청할 때의 응답 본문이다.
+ */
+public class NetworkResponse {
+
+    private List<StationResponse> stations;
+    private List<NetworkLineResponse> lines;
+
+    public NetworkResponse(List<StationResponse> stations, List<NetworkLineResponse> lines) {
+        this.stations = stations;
+        this.lines = lines;
+    }
+
+    public NetworkResponse() {
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<NetworkLineResponse> getLines() {
+        return lines;
+    }
+}
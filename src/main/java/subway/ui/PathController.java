@@ -0,0 +1,29 @@
+package subway.ui;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import subway.service.PathService;
+
+@RestController
+public class PathController {
+
+    private final PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> findPath(@RequestParam(value = "source") Long sourceId,
+                                                 @RequestParam(value = "target") Long targetId) {
+        return ResponseEntity.ok().body(pathService.findPath(sourceId, targetId));
+    }
+
+    @GetMapping("/distances")
+    public ResponseEntity<DistanceResponse> findDistance(@RequestParam(value = "source") Long sourceId,
+                                                         @RequestParam(value = "target") Long targetId) {
+        return ResponseEntity.ok().body(pathService.findDistance(sourceId, targetId));
+    }
+}
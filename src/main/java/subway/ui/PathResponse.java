@@ -0,0 +1,25 @@
+package subway.ui;
+
+import java.util.List;
+
+public class PathResponse {
+
+    private List<StationResponse> stations;
+    private Long distance;
+
+    public PathResponse(List<StationResponse> stations, Long distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public PathResponse() {
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public Long getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,26 @@
+package subway.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SectionBatchRequest {
+
+    private List<Long> deleteStationIds = new ArrayList<>();
+    private List<SectionRequest> sections = new ArrayList<>();
+
+    public SectionBatchRequest() {
+    }
+
+    public SectionBatchRequest(List<Long> deleteStationIds, List<SectionRequest> sections) {
+        this.deleteStationIds = deleteStationIds;
+        this.sections = sections;
+    }
+
+    public List<Long> getDeleteStationIds() {
+        return deleteStationIds;
+    }
+
+    public List<SectionRequest> getSections() {
+        return sections;
+    }
+}
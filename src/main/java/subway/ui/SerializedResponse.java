@@ -0,0 +1,69 @@
+package subway.ui;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Locale;
+
+/**
+ * 미리 직렬화한 JSON 본문과 gzip 으로 압축한 본문.
+ * 노선도 세대마다 한 번 만들어 두고, 요청에는 바이트 배열을 그대로 쓴다.
+ */
+public class SerializedResponse {
+
+    private static final String GZIP = "gzip";
+    private static final String ANY_ENCODING = "*";
+    private static final String QUALITY_PREFIX = "q=";
+
+    private final byte[] body;
+    private final byte[] gzipBody;
+
+    public SerializedResponse(byte[] body, byte[] gzipBody) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+    }
+
+    /**
+     * Accept-Encoding 의 gzip 항목, 없으면 * 항목의 q 값이 0 보다 클 때만 gzip 을 허용한 것으로 본다.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        double anyQuality = 0;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parameters = token.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (GZIP.equals(coding)) {
+                gzipQuality = quality(parameters);
+            } else if (ANY_ENCODING.equals(coding)) {
+                anyQuality = quality(parameters);
+            }
+        }
+        return (gzipQuality != null ? gzipQuality : anyQuality) > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith(QUALITY_PREFIX)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PREFIX.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(ResponseEntity.BodyBuilder builder, boolean gzip) {
+        builder.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzipBody);
+        }
+        return builder.body(body);
+    }
+}
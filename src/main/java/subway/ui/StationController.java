@@ -1,11 +1,15 @@
 package subway.ui;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import subway.service.StationService;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 public class StationController {
@@ -21,9 +25,47 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
-    @GetMapping(value = "/stations")
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    @GetMapping(value = "/stations", produces = {MediaType.APPLICATION_JSON_VALUE, CompactMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<?> showStations(@RequestParam(value = "after", required = false) Long after,
+                                          @RequestParam(value = "limit", required = false) Integer limit,
+                                          @RequestParam(value = "fields", required = false) Set<String> fields,
+                                          WebRequest webRequest) {
+        if (after == null && limit == null && fields == null) {
+            if (CompactMediaType.isRequested(webRequest.getHeader(HttpHeaders.ACCEPT))) {
+                ETaggedResponse<List<StationResponse>> stations = stationService.findAllStations();
+                String eTag = stations.getETag() + "-cbor";
+                if (webRequest.checkNotModified(eTag)) {
+                    return null;
+                }
+                return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                        .body(stations.getBody());
+            }
+            ETaggedResponse<SerializedResponse> stations = stationService.findAllStationsSerialized();
+            boolean gzip = SerializedResponse.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            String eTag = gzip ? stations.getETag() + "-gzip" : stations.getETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return stations.getBody().toResponseEntity(
+                    ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), gzip);
+        }
+        return ResponseEntity.ok().body(stationService.findStations(after, limit, fields));
+    }
+
+    @GetMapping("/stations/{id}/lines")
+    public ResponseEntity<List<LineResponse>> showLinesByStation(@PathVariable Long id) {
+        return ResponseEntity.ok().body(stationService.findLinesByStationId(id));
+    }
+
+    @GetMapping("/stations/transfers")
+    public ResponseEntity<List<TransferStationResponse>> showTransferStations() {
+        return ResponseEntity.ok().body(stationService.findTransferStations());
+    }
+
+    @DeleteMapping("/stations")
+    public ResponseEntity<Void> deleteStations(@RequestParam(value = "ids") List<Long> ids) {
+        stationService.deleteStationsByIds(ids);
+        return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/stations/{id}")
@@ -1,7 +1,9 @@
 package subway.ui;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import subway.domain.Station;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class StationResponse {
     private Long id;
     private String name;
@@ -0,0 +1,31 @@
+package subway.ui;
+
+import java.util.List;
+
+public class TransferStationResponse {
+
+    private Long id;
+    private String name;
+    private List<LineResponse> lines;
+
+    public TransferStationResponse(Long id, String name, List<LineResponse> lines) {
+        this.id = id;
+        this.name = name;
+        this.lines = lines;
+    }
+
+    public TransferStationResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<LineResponse> getLines() {
+        return lines;
+    }
+}
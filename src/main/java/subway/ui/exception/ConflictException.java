@@ -0,0 +1,8 @@
+package subway.ui.exception;
+
+public abstract class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,13 +1,18 @@
 package subway.ui.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
 public class ExceptionHandleController {
 
+    private static final String DATA_INTEGRITY_ERROR_MESSAGE = "다른 데이터가 참조하고 있어 처리하지 못했습니다.";
+    private static final String CONCURRENT_MODIFICATION_ERROR_MESSAGE = "다른 요청과 동시에 수정되어 처리하지 못했습니다. 다시 시도해 주세요.";
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> illegalArgumentExceptionHandle(IllegalArgumentException e) {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -17,4 +22,19 @@ public class ExceptionHandleController {
     public ResponseEntity<String> notFoundExceptionHandle(NotFoundException e) {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<String> conflictExceptionHandle(ConflictException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> dataIntegrityViolationExceptionHandle(DataIntegrityViolationException e) {
+        return new ResponseEntity<>(DATA_INTEGRITY_ERROR_MESSAGE, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> optimisticLockingFailureExceptionHandle(ObjectOptimisticLockingFailureException e) {
+        return new ResponseEntity<>(CONCURRENT_MODIFICATION_ERROR_MESSAGE, HttpStatus.CONFLICT);
+    }
 }
@@ -0,0 +1,10 @@
+package subway.ui.exception;
+
+public class StationInUseException extends ConflictException {
+
+    private static final String ERROR_MESSAGE = "구간에 등록된 Station 은 삭제할 수 없습니다.";
+
+    public StationInUseException() {
+        super(ERROR_MESSAGE);
+    }
+}
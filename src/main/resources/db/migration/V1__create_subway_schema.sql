@@ -0,0 +1,35 @@
+create sequence line_seq start with 1 increment by 50;
+create sequence station_seq start with 1 increment by 50;
+create sequence section_seq start with 1 increment by 50;
+
+create table line (
+    id       bigint      not null,
+    name     varchar(20) not null,
+    color    varchar(20) not null,
+    distance bigint      not null,
+    version  bigint,
+    primary key (id)
+);
+
+create table station (
+    id   bigint      not null,
+    name varchar(20) not null,
+    primary key (id)
+);
+
+create table section (
+    id              bigint not null,
+    line_id         bigint not null,
+    up_station_id   bigint not null,
+    down_station_id bigint not null,
+    distance        bigint not null,
+    primary key (id)
+);
+
+create index idx_section_line_id on section (line_id);
+create index idx_section_up_station_id on section (up_station_id);
+create index idx_section_down_station_id on section (down_station_id);
+
+alter table section add constraint fk_section_line foreign key (line_id) references line (id);
+alter table section add constraint fk_section_up_station foreign key (up_station_id) references station (id);
+alter table section add constraint fk_section_down_station foreign key (down_station_id) references station (id);
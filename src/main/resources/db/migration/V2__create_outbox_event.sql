@@ -0,0 +1,12 @@
+create sequence outbox_event_seq start with 1 increment by 50;
+
+create table outbox_event (
+    id               bigint      not null,
+    event_type       varchar(30) not null,
+    target_id        bigint,
+    created_at       timestamp   not null,
+    published_offset bigint,
+    primary key (id)
+);
+
+create unique index idx_outbox_event_published_offset on outbox_event (published_offset);
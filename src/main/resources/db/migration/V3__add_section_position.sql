@@ -0,0 +1,6 @@
+alter table section add column position integer;
+
+update section s
+set position = (select count(*) from section p where p.line_id = s.line_id and p.id < s.id);
+
+alter table section alter column position set not null;
@@ -0,0 +1,63 @@
+package subway.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간 히스토그램과 오류 수를 모은다.
+ * 응답 시간은 예정된 요청 시각부터 재므로 서버가 밀려 요청이 늦게 나간 시간까지 포함한다.
+ */
+class LatencyReport {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean error) {
+        recorders.computeIfAbsent(endpoint, key -> new Recorder(SIGNIFICANT_DIGITS)).recordValue(latencyNanos);
+        if (error) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    String summarize(Duration elapsed) {
+        double seconds = elapsed.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        StringBuilder summary = new StringBuilder(String.format("%-24s %10s %10s %10s %10s %10s %10s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors"));
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        for (Map.Entry<String, Recorder> entry : new TreeMap<>(recorders).entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            long endpointErrors = errors.getOrDefault(entry.getKey(), new LongAdder()).sum();
+            total.add(histogram);
+            totalErrors += endpointErrors;
+            summary.append(line(entry.getKey(), histogram, seconds, endpointErrors));
+        }
+        summary.append(line("total", total, seconds, totalErrors));
+        return summary.toString();
+    }
+
+    private static String line(String endpoint, Histogram histogram, double seconds, long errors) {
+        return String.format("%-24s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                endpoint,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                errors);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,30 @@
+package subway.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정. 모두 -Dsubway.load.* 시스템 프로퍼티로 바꿀 수 있다.
+ */
+class LoadTestSettings {
+
+    final String baseUri = System.getProperty("subway.load.base-uri");
+    final int stations = intProperty("subway.load.stations", 500);
+    final int lines = intProperty("subway.load.lines", 20);
+    final int sectionsPerLine = intProperty("subway.load.sections-per-line", 30);
+    final int clients = intProperty("subway.load.clients", 32);
+    final int rate = intProperty("subway.load.rate", 500);
+    final int writePercent = intProperty("subway.load.write-percent", 10);
+    final Duration warmup = Duration.ofSeconds(intProperty("subway.load.warmup-seconds", 10));
+    final Duration duration = Duration.ofSeconds(intProperty("subway.load.duration-seconds", 60));
+    final long seed = Long.getLong("subway.load.seed", 20220701L);
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("stations=%d lines=%d sections-per-line=%d clients=%d rate=%d/s write=%d%% warmup=%ds duration=%ds",
+                stations, lines, sectionsPerLine, clients, rate, writePercent, warmup.getSeconds(), duration.getSeconds());
+    }
+}
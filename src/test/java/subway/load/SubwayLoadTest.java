@@ -0,0 +1,189 @@
+package subway.load;
+
+import io.restassured.RestAssured;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import subway.ui.LineResponse;
+import subway.ui.SectionRequest;
+import subway.ui.StationResponse;
+import subway.util.AbstractAcceptanceTest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.LineSteps.*;
+import static subway.ui.PathSteps.지하철_경로_조회_요청;
+import static subway.ui.StationSteps.*;
+import static subway.util.AcceptanceTestUtil.get;
+
+/**
+ * 합성 노선도를 만든 뒤, 인수 테스트의 Steps 로 읽기/쓰기 요청을 섞어 목표 처리량으로 보낸다.
+ * 기본은 테스트가 띄운 앱을 대상으로 하며, -Dsubway.load.base-uri 를 주면 이미 실행 중인 앱을 대상으로 한다.
+ * ./gradlew loadTest 로만 실행된다.
+ */
+@Tag("load")
+@DisplayName("지하철 노선도 부하 테스트")
+public class SubwayLoadTest extends AbstractAcceptanceTest {
+
+    private static final Path REPORT_PATH = Paths.get("build", "reports", "load", "summary.txt");
+
+    private final LoadTestSettings settings = new LoadTestSettings();
+    private final LatencyReport report = new LatencyReport();
+
+    @BeforeEach
+    void setUpTarget() {
+        if (settings.baseUri != null) {
+            RestAssured.baseURI = settings.baseUri;
+            RestAssured.port = RestAssured.UNDEFINED_PORT;
+        }
+        RestAssured.config = RestAssuredConfig.config()
+                .logConfig(LogConfig.logConfig().defaultStream(new PrintStream(OutputStream.nullOutputStream())));
+    }
+
+    @AfterEach
+    void resetTarget() {
+        RestAssured.reset();
+    }
+
+    /**
+     * Given 설정한 규모의 노선도를 만들고
+     * When 여러 클라이언트가 목표 처리량으로 읽기/쓰기 요청을 섞어 보내면
+     * Then 엔드포인트별 처리량과 p50/p99/p999 응답 시간을 기록한다.
+     */
+    @DisplayName("혼합 부하")
+    @Test
+    void mixedWorkload() throws Exception {
+        //given
+        Random random = new Random(settings.seed);
+        SyntheticNetwork network = SyntheticNetwork.generate(settings, random);
+
+        //when
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * settings.clients / settings.rate;
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + settings.warmup.toNanos();
+        long endNanos = measureFromNanos + settings.duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.clients);
+        try {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int client = 0; client < settings.clients; client++) {
+                Client workload = new Client(client, network, new Random(settings.seed + client));
+                long offsetNanos = intervalNanos * client / settings.clients;
+                clients.add(executor.submit(() -> workload.run(startNanos + offsetNanos, intervalNanos, measureFromNanos, endNanos)));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        String summary = settings + System.lineSeparator() + report.summarize(settings.duration);
+        writeReport(summary);
+        System.out.println(summary);
+        assertThat(summary).contains("total");
+    }
+
+    private void writeReport(String summary) throws IOException {
+        Files.createDirectories(REPORT_PATH.getParent());
+        Files.write(REPORT_PATH, summary.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트마다 전용 노선을 두고 하행 종점 구간을 등록/제거하므로 쓰기 요청끼리 충돌하지 않는다.
+     */
+    private class Client {
+
+        private final Random random;
+        private final SyntheticNetwork network;
+        private final Long lineId;
+        private final Long downEndStationId;
+        private final Long extensionStationId;
+        private boolean extended;
+
+        private Client(int number, SyntheticNetwork network, Random random) {
+            this.random = random;
+            this.network = network;
+            StationResponse upStation = 지하철역_생성_요청_Response_반환("부하상행" + number);
+            StationResponse downStation = 지하철역_생성_요청_Response_반환("부하하행" + number);
+            LineResponse line = 지하철_노선_생성_요청_Response_반환("부하전용선" + number, upStation.getId(), downStation.getId());
+            this.lineId = line.getId();
+            this.downEndStationId = downStation.getId();
+            this.extensionStationId = 지하철역_생성_요청_Response_반환("부하연장" + number).getId();
+        }
+
+        private void run(long firstNanos, long intervalNanos, long measureFromNanos, long endNanos) {
+            for (long intendedNanos = firstNanos; intendedNanos < endNanos; intendedNanos += intervalNanos) {
+                LockSupport.parkNanos(intendedNanos - System.nanoTime());
+                String endpoint = nextEndpoint();
+                boolean error;
+                try {
+                    error = call(endpoint) >= 500;
+                } catch (RuntimeException e) {
+                    error = true;
+                }
+                if (intendedNanos >= measureFromNanos) {
+                    report.record(endpoint, System.nanoTime() - intendedNanos, error);
+                }
+            }
+        }
+
+        private String nextEndpoint() {
+            if (random.nextInt(100) < settings.writePercent) {
+                return extended ? "DELETE /lines/{id}/sections" : "POST /lines/{id}/sections";
+            }
+            int read = random.nextInt(100);
+            if (read < 35) {
+                return "GET /lines/{id}";
+            }
+            if (read < 70) {
+                return "GET /paths";
+            }
+            if (read < 85) {
+                return "GET /lines";
+            }
+            return "GET /stations";
+        }
+
+        private int call(String endpoint) {
+            switch (endpoint) {
+                case "GET /lines/{id}":
+                    return get("/lines/{id}", network.randomLineId(random)).statusCode();
+                case "GET /paths":
+                    return 지하철_경로_조회_요청(network.randomStationId(random), network.randomStationId(random)).statusCode();
+                case "GET /lines":
+                    return get("/lines").statusCode();
+                case "GET /stations":
+                    return get("/stations").statusCode();
+                case "POST /lines/{id}/sections":
+                    int created = 지하철_노선_구간_등록_요청(lineId, new SectionRequest(downEndStationId, extensionStationId, 5L)).statusCode();
+                    extended = created == 201;
+                    return created;
+                default:
+                    int deleted = 지하철_노선_구간_삭제_요청(lineId, extensionStationId).statusCode();
+                    extended = deleted != 204;
+                    return deleted;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package subway.load;
+
+import subway.ui.LineResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static subway.ui.ImportSteps.지하철_노선도_가져오기_요청;
+import static subway.ui.LineSteps.지하철_노선_목록_조회_요청_Response_반환;
+import static subway.util.AcceptanceTestUtil.get;
+
+/**
+ * 설정한 규모의 노선도를 만들어 한 번의 가져오기 요청으로 등록한다.
+ * 노선마다 전체 역에서 무작위로 역을 골라 이으므로 노선끼리 환승역을 공유한다.
+ */
+class SyntheticNetwork {
+
+    private final List<Long> stationIds;
+    private final List<Long> lineIds;
+
+    private SyntheticNetwork(List<Long> stationIds, List<Long> lineIds) {
+        this.stationIds = stationIds;
+        this.lineIds = lineIds;
+    }
+
+    static SyntheticNetwork generate(LoadTestSettings settings, Random random) {
+        if (settings.sectionsPerLine >= settings.stations) {
+            throw new IllegalArgumentException("노선의 구간 수는 역 수보다 작아야 합니다.");
+        }
+        StringBuilder records = new StringBuilder();
+        for (int station = 0; station < settings.stations; station++) {
+            records.append(String.format("{\"type\":\"station\",\"key\":\"s%d\",\"name\":\"부하역%d\"}%n", station, station));
+        }
+        List<Integer> pool = IntStream.range(0, settings.stations).boxed().collect(Collectors.toList());
+        for (int line = 0; line < settings.lines; line++) {
+            records.append(String.format("{\"type\":\"line\",\"key\":\"l%d\",\"name\":\"부하선%d\",\"color\":\"bg-red-600\"}%n", line, line));
+            Collections.shuffle(pool, random);
+            for (int section = 0; section < settings.sectionsPerLine; section++) {
+                records.append(String.format(
+                        "{\"type\":\"section\",\"line\":\"l%d\",\"upStation\":\"s%d\",\"downStation\":\"s%d\",\"distance\":%d}%n",
+                        line, pool.get(section), pool.get(section + 1), 1 + random.nextInt(10)));
+            }
+        }
+        int statusCode = 지하철_노선도_가져오기_요청(records.toString()).statusCode();
+        if (statusCode != 200) {
+            throw new IllegalStateException("노선도를 가져오지 못했습니다. status=" + statusCode);
+        }
+
+        List<Long> stationIds = get("/stations", "id", Long.class);
+        List<Long> lineIds = 지하철_노선_목록_조회_요청_Response_반환().stream()
+                .map(LineResponse::getId)
+                .collect(Collectors.toList());
+        return new SyntheticNetwork(stationIds, lineIds);
+    }
+
+    Long randomStationId(Random random) {
+        return stationIds.get(random.nextInt(stationIds.size()));
+    }
+
+    Long randomLineId(Random random) {
+        return lineIds.get(random.nextInt(lineIds.size()));
+    }
+}
@@ -0,0 +1,32 @@
+package subway.ui;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import subway.service.DistanceMatrixCache;
+import subway.service.NetworkSnapshotCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("전체 역 쌍 거리 행렬을 사용하는 지하철 경로 조회 기능")
+@TestPropertySource(properties = "subway.path.all-pairs.enabled=true")
+public class AllPairsPathAcceptanceTest extends PathAcceptanceTest {
+
+    private static final long MATRIX_TIMEOUT_MILLIS = 5_000L;
+
+    @Autowired
+    private DistanceMatrixCache distanceMatrixCache;
+
+    @Autowired
+    private NetworkSnapshotCache networkSnapshotCache;
+
+    @BeforeEach
+    void awaitDistanceMatrix() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MATRIX_TIMEOUT_MILLIS;
+        while (distanceMatrixCache.get(networkSnapshotCache.get()) == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(distanceMatrixCache.get(networkSnapshotCache.get())).isNotNull();
+    }
+}
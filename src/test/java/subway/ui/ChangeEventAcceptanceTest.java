@@ -0,0 +1,122 @@
+package subway.ui;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import subway.util.AbstractAcceptanceTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.ChangeEventSteps.*;
+import static subway.ui.LineSteps.지하철_노선_구간_등록_요청;
+import static subway.ui.LineSteps.지하철_노선_생성_요청_Response_반환;
+import static subway.ui.StationSteps.지하철역_생성_요청_Response_반환;
+
+@DisplayName("지하철 노선도 변경 이벤트 관련 기능")
+@TestPropertySource(properties = "subway.events.sse-timeout-ms=1000")
+public class ChangeEventAcceptanceTest extends AbstractAcceptanceTest {
+
+    /**
+     * When 지하철역과 노선을 생성하고 구간을 등록하면
+     * Then 변경 순서대로 offset 이 부여된 변경 이벤트가 발행된다.
+     */
+    @DisplayName("노선도를 변경하면 변경 이벤트가 순서대로 발행된다")
+    @Test
+    void publishChangeEvents() throws InterruptedException {
+        //when
+        StationResponse 신사역 = 지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = 지하철역_생성_요청_Response_반환("논현역");
+        StationResponse 신논현역 = 지하철역_생성_요청_Response_반환("신논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(논현역.getId(), 신논현역.getId(), 5L));
+
+        //then
+        List<ChangeEventResponse> events = 지하철_변경_이벤트_발행_대기(0L, 5);
+        assertThat(events).extracting(ChangeEventResponse::getType).containsExactly(
+                "STATION_CREATED", "STATION_CREATED", "STATION_CREATED", "LINE_CREATED", "SECTIONS_CHANGED");
+        assertThat(events).extracting(ChangeEventResponse::getTargetId).containsExactly(
+                신사역.getId(), 논현역.getId(), 신논현역.getId(), 신분당선.getId(), 신분당선.getId());
+        assertThat(events).extracting(ChangeEventResponse::getOffset).isSorted().doesNotHaveDuplicates();
+    }
+
+    /**
+     * Given 노선을 생성하고 변경 이벤트를 받은 뒤
+     * When 잘못된 구간을 등록하면
+     * Then 롤백된 변경의 이벤트는 발행되지 않는다.
+     */
+    @DisplayName("실패한 변경은 변경 이벤트를 발행하지 않는다")
+    @Test
+    void rolledBackChangeIsNotPublished() throws InterruptedException {
+        //given
+        StationResponse 신사역 = 지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = 지하철역_생성_요청_Response_반환("논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        Long lastOffset = 지하철_변경_이벤트_발행_대기(0L, 3).get(2).getOffset();
+
+        //when
+        ExtractableResponse<Response> response =
+                지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(신사역.getId(), 논현역.getId(), 5L));
+        StationResponse 신논현역 = 지하철역_생성_요청_Response_반환("신논현역");
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        List<ChangeEventResponse> events = 지하철_변경_이벤트_발행_대기(lastOffset, 1);
+        assertThat(events).extracting(ChangeEventResponse::getTargetId).containsExactly(신논현역.getId());
+    }
+
+    /**
+     * Given 지하철역을 생성해 변경 이벤트가 발행된 뒤
+     * When 마지막으로 받은 offset 으로 이벤트 스트림을 구독하면
+     * Then 그 이후의 이벤트만 이어서 받는다.
+     */
+    @DisplayName("마지막으로 받은 offset 이후의 이벤트부터 이어서 구독한다")
+    @Test
+    void resumeEventStream() throws InterruptedException {
+        //given
+        지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = 지하철역_생성_요청_Response_반환("논현역");
+        List<ChangeEventResponse> events = 지하철_변경_이벤트_발행_대기(0L, 2);
+
+        //when
+        ExtractableResponse<Response> response = 지하철_변경_이벤트_구독_요청(events.get(0).getOffset());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith("text/event-stream");
+        assertThat(response.asString())
+                .doesNotContain("id:" + events.get(0).getOffset() + "\n")
+                .contains("id:" + events.get(1).getOffset() + "\n")
+                .contains("\"targetId\":" + 논현역.getId());
+    }
+
+    /**
+     * Given 지금까지의 변경 이벤트를 받은 뒤 이벤트 스트림을 구독하고
+     * When 구독 중에 지하철역을 생성하면
+     * Then 릴레이가 발행한 이벤트를 구독 스트림으로 받는다.
+     */
+    @DisplayName("구독 중에 발행된 이벤트를 실시간으로 받는다")
+    @Test
+    void receiveLiveEvents() throws Exception {
+        //given
+        지하철역_생성_요청_Response_반환("신사역");
+        Long lastOffset = 지하철_변경_이벤트_발행_대기(0L, 1).get(0).getOffset();
+        CompletableFuture<ExtractableResponse<Response>> subscription =
+                CompletableFuture.supplyAsync(() -> 지하철_변경_이벤트_구독_요청(lastOffset));
+        Thread.sleep(200L);
+
+        //when
+        StationResponse 논현역 = 지하철역_생성_요청_Response_반환("논현역");
+
+        //then
+        ExtractableResponse<Response> response = subscription.get(5, TimeUnit.SECONDS);
+        assertThat(response.asString())
+                .doesNotContain("id:" + lastOffset + "\n")
+                .contains("\"targetId\":" + 논현역.getId());
+    }
+}
@@ -0,0 +1,44 @@
+package subway.ui;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+import java.util.List;
+
+public class ChangeEventSteps {
+
+    private static final long RELAY_TIMEOUT_MILLIS = 5_000L;
+
+    public static List<ChangeEventResponse> 지하철_변경_이벤트_목록_조회_요청(Long after) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("after", after)
+                .when().get("/events/history")
+                .then().log().all()
+                .extract().jsonPath().getList("$", ChangeEventResponse.class);
+    }
+
+    /**
+     * 릴레이가 주기적으로 발행하므로 기대한 개수가 발행될 때까지 기다린다.
+     */
+    public static List<ChangeEventResponse> 지하철_변경_이벤트_발행_대기(Long after, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + RELAY_TIMEOUT_MILLIS;
+        List<ChangeEventResponse> events = 지하철_변경_이벤트_목록_조회_요청(after);
+        while (events.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            events = 지하철_변경_이벤트_목록_조회_요청(after);
+        }
+        return events;
+    }
+
+    public static ExtractableResponse<Response> 지하철_변경_이벤트_구독_요청(Long lastEventId) {
+        return RestAssured
+                .given().log().all()
+                .accept("text/event-stream")
+                .header("Last-Event-ID", lastEventId)
+                .when().get("/events")
+                .then().log().all()
+                .extract();
+    }
+}
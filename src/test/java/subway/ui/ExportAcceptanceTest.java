@@ -0,0 +1,70 @@
+package subway.ui;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.util.AbstractAcceptanceTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.LineSteps.지하철_노선_구간_등록_요청;
+import static subway.ui.LineSteps.지하철_노선_생성_요청_Response_반환;
+import static subway.ui.StationSteps.지하철역_생성_요청_Response_반환;
+
+@DisplayName("지하철 노선도 내보내기 기능")
+public class ExportAcceptanceTest extends AbstractAcceptanceTest {
+
+    /**
+     * Given 2개의 지하철역을 생성하고
+     * When 지하철역을 내보내면
+     * Then 역마다 한 줄씩 응답받는다.
+     */
+    @DisplayName("지하철역 내보내기")
+    @Test
+    void exportStations() {
+        //given
+        지하철역_생성_요청_Response_반환("마들역");
+        지하철역_생성_요청_Response_반환("노원역");
+
+        //when
+        List<String> lines = 내보내기_요청("/stations/export");
+
+        //then
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("마들역");
+        assertThat(lines.get(1)).contains("노원역");
+    }
+
+    /**
+     * Given 3개의 역을 가지는 지하철 노선을 생성하고
+     * When 지하철 노선을 내보내면
+     * Then 노선마다 한 줄씩, 역은 상행에서 하행 순서로 응답받는다.
+     */
+    @DisplayName("지하철 노선 내보내기")
+    @Test
+    void exportLines() {
+        //given
+        StationResponse 신사역 = 지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = 지하철역_생성_요청_Response_반환("논현역");
+        StationResponse 신논현역 = 지하철역_생성_요청_Response_반환("신논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(논현역.getId(), 신논현역.getId(), 5L));
+
+        //when
+        List<String> lines = 내보내기_요청("/lines/export");
+
+        //then
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).containsSubsequence("신사역", "논현역", "신논현역");
+    }
+
+    private List<String> 내보내기_요청(String path) {
+        String body = RestAssured
+                .given().log().all()
+                .when().get(path)
+                .then().log().all()
+                .extract().asString();
+        return List.of(body.split("\n"));
+    }
+}
@@ -0,0 +1,107 @@
+package subway.ui;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import subway.util.AbstractAcceptanceTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.ImportSteps.지하철_노선도_가져오기_요청;
+import static subway.ui.LineSteps.지하철_노선_목록_조회_요청_Response_반환;
+import static subway.ui.StationSteps.지하철역_목록_조회_요청;
+
+@DisplayName("지하철 노선도 가져오기 기능")
+public class ImportAcceptanceTest extends AbstractAcceptanceTest {
+
+    /**
+     * When 역, 노선, 구간 레코드를 한 번에 가져오면
+     * Then 지하철 노선 조회 시 가져온 구간의 역들이 순서대로 조회된다.
+     */
+    @DisplayName("지하철 노선도 가져오기")
+    @Test
+    void importNetwork() {
+        //when
+        String records = String.join("\n",
+                "{\"type\":\"station\",\"key\":\"s1\",\"name\":\"신사역\"}",
+                "{\"type\":\"station\",\"key\":\"s2\",\"name\":\"논현역\"}",
+                "{\"type\":\"station\",\"key\":\"s3\",\"name\":\"신논현역\"}",
+                "{\"type\":\"line\",\"key\":\"l1\",\"name\":\"신분당선\",\"color\":\"bg-red-600\"}",
+                "{\"type\":\"section\",\"line\":\"l1\",\"upStation\":\"s1\",\"downStation\":\"s2\",\"distance\":10}",
+                "{\"type\":\"section\",\"line\":\"l1\",\"upStation\":\"s2\",\"downStation\":\"s3\",\"distance\":5}");
+        ImportResponse 가져오기_응답 = 지하철_노선도_가져오기_요청(records).as(ImportResponse.class);
+
+        //then
+        assertThat(가져오기_응답.getSections()).isEqualTo(2L);
+        List<LineResponse> 노선_목록 = 지하철_노선_목록_조회_요청_Response_반환();
+        assertThat(노선_목록).extracting(LineResponse::getName).containsExactly("신분당선");
+        assertThat(노선_목록.get(0).getStations().stream().map(StationResponse::getName).collect(Collectors.toList()))
+                .containsExactly("신사역", "논현역", "신논현역");
+    }
+
+    /**
+     * When 하행 종점역에 이어지지 않는 구간이 포함된 레코드를 가져오면
+     * Then 예외를 발생하고 아무것도 저장되지 않는다.
+     */
+    @DisplayName("구간 규칙에 맞지 않는 레코드를 가져오는 경우")
+    @Test
+    void 구간_규칙에_맞지_않는_레코드를_가져오는_경우() {
+        //when
+        String records = String.join("\n",
+                "{\"type\":\"station\",\"key\":\"s1\",\"name\":\"신사역\"}",
+                "{\"type\":\"station\",\"key\":\"s2\",\"name\":\"논현역\"}",
+                "{\"type\":\"station\",\"key\":\"s3\",\"name\":\"신논현역\"}",
+                "{\"type\":\"line\",\"key\":\"l1\",\"name\":\"신분당선\",\"color\":\"bg-red-600\"}",
+                "{\"type\":\"section\",\"line\":\"l1\",\"upStation\":\"s1\",\"downStation\":\"s2\",\"distance\":10}",
+                "{\"type\":\"section\",\"line\":\"l1\",\"upStation\":\"s1\",\"downStation\":\"s3\",\"distance\":5}");
+        ExtractableResponse<Response> 가져오기_응답 = 지하철_노선도_가져오기_요청(records);
+
+        //then
+        assertThat(가져오기_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철역_목록_조회_요청()).isEmpty();
+    }
+
+    /**
+     * When 문법이 깨진 줄이 포함된 레코드를 가져오면
+     * Then 예외를 발생하고 아무것도 저장되지 않는다.
+     */
+    @DisplayName("JSON 문법이 깨진 레코드를 가져오는 경우")
+    @Test
+    void JSON_문법이_깨진_레코드를_가져오는_경우() {
+        //when
+        String records = String.join("\n",
+                "{\"type\":\"station\",\"key\":\"s1\",\"name\":\"신사역\"}",
+                "{\"type\":\"station\",\"key\":\"s2\",\"name\":\"논현역\"}",
+                "{\"type\":\"line\",\"key\":\"l1\",\"name\":\"신분당선\",",
+                "{\"type\":\"section\",\"line\":\"l1\",\"upStation\":\"s1\",\"downStation\":\"s2\",\"distance\":10}");
+        ExtractableResponse<Response> 가져오기_응답 = 지하철_노선도_가져오기_요청(records);
+
+        //then
+        assertThat(가져오기_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철역_목록_조회_요청()).isEmpty();
+    }
+
+    /**
+     * When 색상이 없는 노선 레코드를 가져오면
+     * Then 예외를 발생하고 아무것도 저장되지 않는다.
+     */
+    @DisplayName("필수 값이 없는 레코드를 가져오는 경우")
+    @Test
+    void 필수_값이_없는_레코드를_가져오는_경우() {
+        //when
+        String records = String.join("\n",
+                "{\"type\":\"station\",\"key\":\"s1\",\"name\":\"신사역\"}",
+                "{\"type\":\"station\",\"key\":\"s2\",\"name\":\"논현역\"}",
+                "{\"type\":\"line\",\"key\":\"l1\",\"name\":\"신분당선\"}",
+                "{\"type\":\"section\",\"line\":\"l1\",\"upStation\":\"s1\",\"downStation\":\"s2\",\"distance\":10}");
+        ExtractableResponse<Response> 가져오기_응답 = 지하철_노선도_가져오기_요청(records);
+
+        //then
+        assertThat(가져오기_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철역_목록_조회_요청()).isEmpty();
+    }
+}
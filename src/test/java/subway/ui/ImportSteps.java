@@ -0,0 +1,18 @@
+package subway.ui;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class ImportSteps {
+
+    public static ExtractableResponse<Response> 지하철_노선도_가져오기_요청(String records) {
+        return RestAssured
+                .given().log().all()
+                .body(records)
+                .contentType("application/x-ndjson; charset=UTF-8")
+                .when().post("/imports")
+                .then().log().all()
+                .extract();
+    }
+}
@@ -1,20 +1,29 @@
 package subway.ui;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import subway.util.AbstractAcceptanceTest;
+import subway.util.QueryCounter;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static subway.ui.LineSteps.*;
+import static subway.util.AcceptanceTestUtil.get;
 
 @DisplayName("지하철 노선 관련 기능")
 public class LineAcceptanceTest extends AbstractAcceptanceTest {
 
+    @Autowired
+    private QueryCounter queryCounter;
+
     /**
      * When 지하철 노선을 생성하면
      * Then 지하철 노선 목록 조회 시 생성한 노선을 찾을 수 있다
@@ -50,6 +59,114 @@ public class LineAcceptanceTest extends AbstractAcceptanceTest {
         assertThat(subwayLines).containsOnly(분당선, 신분당선);
     }
 
+    /**
+     * Given 지하철 노선을 1개 생성하고 목록 조회 시 실행된 쿼리 수를 세고
+     * When 지하철 노선을 더 생성한 뒤 목록을 조회하면
+     * Then 실행되는 쿼리 수는 노선 수와 무관하게 일정하다.
+     */
+    @DisplayName("지하철노선 목록 조회 시 쿼리 수는 노선 수와 무관하다")
+    @Test
+    void showLinesWithConstantQueryCount() {
+        //given
+        지하철_노선_생성_요청("신분당선");
+        long 노선_1개_쿼리_수 = queryCounter.count(LineSteps::지하철_노선_목록_조회_요청);
+
+        //when
+        지하철_노선_여러개_생성_요청(List.of("분당선", "2호선", "3호선", "4호선"));
+        long 노선_5개_쿼리_수 = queryCounter.count(LineSteps::지하철_노선_목록_조회_요청);
+
+        //then
+        assertThat(노선_5개_쿼리_수).isEqualTo(노선_1개_쿼리_수);
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When gzip 을 허용하여 지하철 노선 목록을 두 번 조회하면
+     * Then 두 번 모두 gzip 으로 압축된 같은 노선 목록을 응답받는다.
+     */
+    @DisplayName("지하철노선 목록 압축 조회")
+    @Test
+    void showLinesCompressed() {
+        //given
+        지하철_노선_생성_요청("신분당선");
+
+        //when
+        ExtractableResponse<Response> 첫_응답 = 지하철_노선_목록_압축_조회_요청();
+        ExtractableResponse<Response> 두번째_응답 = 지하철_노선_목록_압축_조회_요청();
+
+        //then
+        assertThat(첫_응답.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(첫_응답.jsonPath().getList("name", String.class)).containsExactly("신분당선");
+        assertThat(두번째_응답.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(두번째_응답.asString()).isEqualTo(첫_응답.asString());
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When gzip 을 q=0 으로 거부하여 지하철 노선 목록을 조회하면
+     * Then 압축되지 않은 노선 목록을 응답받는다.
+     */
+    @DisplayName("gzip 을 거부하면 지하철노선 목록을 압축하지 않는다")
+    @Test
+    void showLinesUncompressedWhenGzipRefused() {
+        //given
+        지하철_노선_생성_요청("신분당선");
+
+        //when
+        ExtractableResponse<Response> 응답 = 지하철_노선_목록_압축_조회_요청("gzip;q=0, identity");
+
+        //then
+        assertThat(응답.header("Content-Encoding")).isNull();
+        assertThat(응답.jsonPath().getList("name", String.class)).containsExactly("신분당선");
+    }
+
+    /**
+     * Given 환승역을 공유하는 지하철 노선을 생성하고
+     * When CBOR 형식으로 지하철 노선 목록을 조회하면
+     * Then 역 사전과 사전의 인덱스로 역을 가리키는 노선 목록을 JSON 보다 작은 본문으로 응답받는다.
+     */
+    @DisplayName("지하철노선 목록 CBOR 조회")
+    @Test
+    void showLinesInCbor() throws Exception {
+        //given
+        StationResponse 교대역 = StationSteps.지하철역_생성_요청_Response_반환("교대역");
+        StationResponse 강남역 = StationSteps.지하철역_생성_요청_Response_반환("강남역");
+        StationResponse 양재역 = StationSteps.지하철역_생성_요청_Response_반환("양재역");
+        지하철_노선_생성_요청_Response_반환("2호선", 교대역.getId(), 강남역.getId());
+        지하철_노선_생성_요청_Response_반환("신분당선", 강남역.getId(), 양재역.getId());
+
+        //when
+        ExtractableResponse<Response> CBOR_응답 = 지하철_노선_목록_CBOR_조회_요청();
+        NetworkResponse 노선도 = new CBORMapper().readValue(CBOR_응답.asByteArray(), NetworkResponse.class);
+
+        //then
+        assertThat(CBOR_응답.contentType()).startsWith(CompactMediaType.APPLICATION_CBOR_VALUE);
+        assertThat(노선도.getStations()).extracting(StationResponse::getName).containsExactly("교대역", "강남역", "양재역");
+        assertThat(노선도.getLines()).extracting(NetworkLineResponse::getName).containsExactly("2호선", "신분당선");
+        assertThat(노선도.getLines().get(1).getStations()).containsExactly(1, 2);
+        assertThat(CBOR_응답.asByteArray().length).isLessThan(RestAssured.get("/lines").asByteArray().length);
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When 이름 필드만 지정하여 지하철 노선 목록을 조회하면
+     * Then 노선의 이름만 응답받고 역 목록은 응답받지 않는다.
+     */
+    @DisplayName("지하철노선 목록 필드 지정 조회")
+    @Test
+    void showLinesWithFields() {
+        //given
+        지하철_노선_생성_요청("신분당선");
+
+        //when
+        List<LineResponse> 노선_목록 = 지하철_노선_목록_필드_조회_요청("name");
+
+        //then
+        assertThat(노선_목록).extracting(LineResponse::getName).containsExactly("신분당선");
+        assertThat(노선_목록.get(0).getColor()).isNull();
+        assertThat(노선_목록.get(0).getStations()).isNull();
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 조회하면
@@ -69,6 +186,84 @@ public class LineAcceptanceTest extends AbstractAcceptanceTest {
         assertThat(신분당선_조회_응답.getName()).isEqualTo(신분당선);
     }
 
+    /**
+     * Given 지하철 노선을 생성하고
+     * When CBOR 보다 JSON 의 q 값이 높거나 CBOR 를 q=0 으로 거부하는 Accept 헤더로 목록을 조회하면
+     * Then JSON 으로 응답받는다.
+     */
+    @DisplayName("지하철노선 목록 조회 시 Accept 헤더의 q 값 반영")
+    @Test
+    void showLinesByAcceptQuality() {
+        //given
+        지하철_노선_생성_요청("신분당선");
+
+        //when
+        ExtractableResponse<Response> JSON_선호_응답 = 지하철_노선_목록_형식_지정_조회_요청("application/cbor;q=0.5, application/json");
+        ExtractableResponse<Response> CBOR_거부_응답 = 지하철_노선_목록_형식_지정_조회_요청("application/cbor;q=0, */*");
+        ExtractableResponse<Response> CBOR_선호_응답 = 지하철_노선_목록_형식_지정_조회_요청("application/json;q=0.5, application/cbor");
+
+        //then
+        assertThat(JSON_선호_응답.contentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(CBOR_거부_응답.contentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(CBOR_선호_응답.contentType()).startsWith(CompactMediaType.APPLICATION_CBOR_VALUE);
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 조회하여 ETag 를 받은 뒤
+     * When 같은 ETag 로 다시 조회하면 304 를 응답받고
+     * When 구간을 등록한 뒤 같은 ETag 로 조회하면
+     * Then 새로운 ETag 와 함께 노선 정보를 응답받는다.
+     */
+    @DisplayName("지하철노선 조건부 조회")
+    @Test
+    void showLineConditionally() {
+        //given
+        StationResponse 신사역 = StationSteps.지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = StationSteps.지하철역_생성_요청_Response_반환("논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        String eTag = get("/lines/{id}", 신분당선.getId()).header("ETag");
+
+        //when
+        ExtractableResponse<Response> 변경_전_응답 = 지하철_노선_조건부_조회_요청(신분당선.getId(), eTag);
+
+        //then
+        assertThat(변경_전_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        //when
+        StationResponse 신논현역 = StationSteps.지하철역_생성_요청_Response_반환("신논현역");
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(논현역.getId(), 신논현역.getId(), 5L));
+        ExtractableResponse<Response> 변경_후_응답 = 지하철_노선_조건부_조회_요청(신분당선.getId(), eTag);
+
+        //then
+        assertThat(변경_후_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(변경_후_응답.header("ETag")).isNotEqualTo(eTag);
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 JSON 으로 조회하여 ETag 를 받은 뒤
+     * When 같은 ETag 로 CBOR 형식을 요청하면
+     * Then 304 가 아닌 CBOR 본문과 다른 ETag 를 응답받는다.
+     */
+    @DisplayName("지하철노선 조건부 조회 시 형식별 ETag 구분")
+    @Test
+    void showLineConditionallyByFormat() {
+        //given
+        StationResponse 신사역 = StationSteps.지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = StationSteps.지하철역_생성_요청_Response_반환("논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        ExtractableResponse<Response> JSON_응답 = get("/lines/{id}", 신분당선.getId());
+        String eTag = JSON_응답.header("ETag");
+
+        //when
+        ExtractableResponse<Response> CBOR_응답 = 지하철_노선_CBOR_조건부_조회_요청(신분당선.getId(), eTag);
+
+        //then
+        assertThat(JSON_응답.header("Vary")).contains("Accept");
+        assertThat(CBOR_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(CBOR_응답.contentType()).startsWith(CompactMediaType.APPLICATION_CBOR_VALUE);
+        assertThat(CBOR_응답.header("ETag")).isNotEqualTo(eTag);
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 수정하면
@@ -132,6 +327,30 @@ public class LineAcceptanceTest extends AbstractAcceptanceTest {
         assertThat(stationNames).contains(신논현역명);
     }
 
+    /**
+     * Given 지하철 노선을 생성하고 구간을 등록한 뒤
+     * When 지하철 노선을 조회하면
+     * Then 역 목록은 상행 종점역부터 하행 종점역 순서로 조회된다
+     */
+    @Test
+    @DisplayName("지하철 노선 조회 시 역 목록은 상행에서 하행 순서")
+    void showLineStationsInOrder() {
+        //given
+        StationResponse 신사역 = StationSteps.지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = StationSteps.지하철역_생성_요청_Response_반환("논현역");
+        StationResponse 신논현역 = StationSteps.지하철역_생성_요청_Response_반환("신논현역");
+        StationResponse 강남역 = StationSteps.지하철역_생성_요청_Response_반환("강남역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(논현역.getId(), 신논현역.getId(), 5L));
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(신논현역.getId(), 강남역.getId(), 5L));
+
+        //when
+        List<String> stationNames = 지하철_노선_조회_요청_노선에_속한_역_반환(신분당선.getId());
+
+        //then
+        assertThat(stationNames).containsExactly("신사역", "논현역", "신논현역", "강남역");
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 노선의 하행 종점역이 아닌 상행역을 가진 구간을 등록하면
@@ -243,4 +462,113 @@ public class LineAcceptanceTest extends AbstractAcceptanceTest {
         //then
         assertThat(지하철_노선_구간_삭제_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When 하행 종점역 제거와 여러 구간 등록을 한 번에 요청하면
+     * Then 제거 후 등록된 순서대로 역 목록이 조회된다.
+     */
+    @Test
+    @DisplayName("지하철 노선 구간 일괄 변경")
+    void changeSections() {
+        //given
+        StationResponse 신사역 = StationSteps.지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = StationSteps.지하철역_생성_요청_Response_반환("논현역");
+        StationResponse 신논현역 = StationSteps.지하철역_생성_요청_Response_반환("신논현역");
+        StationResponse 강남역 = StationSteps.지하철역_생성_요청_Response_반환("강남역");
+        StationResponse 양재역 = StationSteps.지하철역_생성_요청_Response_반환("양재역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(논현역.getId(), 양재역.getId(), 5L));
+
+        //when
+        SectionBatchRequest request = new SectionBatchRequest(List.of(양재역.getId()), List.of(
+                new SectionRequest(논현역.getId(), 신논현역.getId(), 5L),
+                new SectionRequest(신논현역.getId(), 강남역.getId(), 5L),
+                new SectionRequest(강남역.getId(), 양재역.getId(), 5L)));
+        ExtractableResponse<Response> 일괄_변경_응답 = 지하철_노선_구간_일괄_변경_요청(신분당선.getId(), request);
+
+        //then
+        assertThat(일괄_변경_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지하철_노선_조회_요청_노선에_속한_역_반환(신분당선.getId()))
+                .containsExactly("신사역", "논현역", "신논현역", "강남역", "양재역");
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When 중간에 잘못된 구간이 포함된 일괄 변경을 요청하면
+     * Then 예외를 발생하고 앞선 구간도 등록되지 않는다.
+     */
+    @Test
+    @DisplayName("지하철 노선 구간 일괄 변경 중 하나라도 실패하는 경우")
+    void 지하철_노선_구간_일괄_변경_중_하나라도_실패하는_경우() {
+        //given
+        StationResponse 신사역 = StationSteps.지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = StationSteps.지하철역_생성_요청_Response_반환("논현역");
+        StationResponse 신논현역 = StationSteps.지하철역_생성_요청_Response_반환("신논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+
+        //when
+        SectionBatchRequest request = new SectionBatchRequest(List.of(), List.of(
+                new SectionRequest(논현역.getId(), 신논현역.getId(), 5L),
+                new SectionRequest(신논현역.getId(), 신사역.getId(), 5L)));
+        ExtractableResponse<Response> 일괄_변경_응답 = 지하철_노선_구간_일괄_변경_요청(신분당선.getId(), request);
+
+        //then
+        assertThat(일괄_변경_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철_노선_조회_요청_노선에_속한_역_반환(신분당선.getId())).containsExactly("신사역", "논현역");
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When 비어 있는 목록이나 원소가 포함된 일괄 변경을 요청하면
+     * Then 400 을 응답하고 노선의 구간은 바뀌지 않는다.
+     */
+    @Test
+    @DisplayName("지하철 노선 구간 일괄 변경 요청에 비어 있는 값이 있는 경우")
+    void 지하철_노선_구간_일괄_변경_요청에_비어_있는_값이_있는_경우() {
+        //given
+        StationResponse 신사역 = StationSteps.지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = StationSteps.지하철역_생성_요청_Response_반환("논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+
+        //when
+        ExtractableResponse<Response> 구간_목록_없음 =
+                지하철_노선_구간_일괄_변경_요청(신분당선.getId(), "{\"sections\": null}");
+        ExtractableResponse<Response> 삭제_목록_없음 =
+                지하철_노선_구간_일괄_변경_요청(신분당선.getId(), "{\"deleteStationIds\": null}");
+        ExtractableResponse<Response> 구간_원소_없음 =
+                지하철_노선_구간_일괄_변경_요청(신분당선.getId(), "{\"sections\": [null]}");
+
+        //then
+        assertThat(구간_목록_없음.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(삭제_목록_없음.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(구간_원소_없음.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철_노선_조회_요청_노선에_속한_역_반환(신분당선.getId())).containsExactly("신사역", "논현역");
+    }
+
+    /**
+     * Given 지하철 노선에 구간을 등록하고 제거한 뒤
+     * When 노선 거리 정합성을 검증하면
+     * Then 노선 거리는 구간 거리의 합과 같다.
+     */
+    @Test
+    @DisplayName("지하철 노선 거리 정합성 검증")
+    void checkLineDistanceConsistency() {
+        //given
+        StationResponse 신사역 = StationSteps.지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = StationSteps.지하철역_생성_요청_Response_반환("논현역");
+        StationResponse 신논현역 = StationSteps.지하철역_생성_요청_Response_반환("신논현역");
+        StationResponse 강남역 = StationSteps.지하철역_생성_요청_Response_반환("강남역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(논현역.getId(), 신논현역.getId(), 5L));
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(신논현역.getId(), 강남역.getId(), 7L));
+        지하철_노선_구간_삭제_요청(신분당선.getId(), 강남역.getId());
+
+        //when
+        ExtractableResponse<Response> 검증_응답 = 지하철_노선_거리_정합성_검증_요청();
+
+        //then
+        assertThat(검증_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(검증_응답.jsonPath().getBoolean("consistent")).isTrue();
+    }
 }
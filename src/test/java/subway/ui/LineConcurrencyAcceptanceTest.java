@@ -0,0 +1,79 @@
+package subway.ui;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import subway.util.AbstractAcceptanceTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.LineSteps.*;
+import static subway.ui.StationSteps.지하철역_생성_요청_Response_반환;
+
+@DisplayName("지하철 노선 동시 수정 기능")
+public class LineConcurrencyAcceptanceTest extends AbstractAcceptanceTest {
+
+    private static final int CLIENT_COUNT = 8;
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When 여러 클라이언트가 동시에 같은 하행 종점역에서 이어지는 구간을 등록하면
+     * Then 하나의 구간만 등록되고 나머지는 400 또는 409 를 응답받는다.
+     * Then 노선의 역 목록은 끊기거나 중복되지 않는다.
+     */
+    @DisplayName("같은 노선에 동시에 구간을 등록하는 경우")
+    @Test
+    void addSectionsConcurrently() throws Exception {
+        //given
+        StationResponse 신사역 = 지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = 지하철역_생성_요청_Response_반환("논현역");
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        List<StationResponse> 새로운_역들 = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            새로운_역들.add(지하철역_생성_요청_Response_반환("새로운역" + i));
+        }
+
+        //when
+        List<Integer> statusCodes = 동시에_구간_등록_요청(신분당선.getId(), 논현역.getId(), 새로운_역들);
+
+        //then
+        assertThat(statusCodes).filteredOn(status -> status == HttpStatus.CREATED.value()).hasSize(1);
+        assertThat(statusCodes).filteredOn(status -> status != HttpStatus.CREATED.value())
+                .allMatch(status -> status == HttpStatus.BAD_REQUEST.value() || status == HttpStatus.CONFLICT.value());
+
+        List<String> stationNames = 지하철_노선_조회_요청_노선에_속한_역_반환(신분당선.getId());
+        assertThat(stationNames).hasSize(3).doesNotHaveDuplicates();
+        assertThat(stationNames.subList(0, 2)).containsExactly("신사역", "논현역");
+    }
+
+    private List<Integer> 동시에_구간_등록_요청(Long lineId, Long upStationId, List<StationResponse> downStations)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(downStations.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (StationResponse downStation : downStations) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return 지하철_노선_구간_등록_요청(lineId, new SectionRequest(upStationId, downStation.getId(), 5L))
+                            .statusCode();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> statusCodes = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                statusCodes.add(future.get());
+            }
+            return statusCodes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
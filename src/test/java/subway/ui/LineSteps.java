@@ -31,6 +31,50 @@ public class LineSteps {
         return get("/lines", "name", String.class);
     }
 
+    public static List<LineResponse> 지하철_노선_목록_조회_요청_Response_반환() {
+        return get("/lines", "$", LineResponse.class);
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_압축_조회_요청() {
+        return 지하철_노선_목록_압축_조회_요청("gzip");
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_압축_조회_요청(String acceptEncoding) {
+        return RestAssured
+                .given().log().all()
+                .header("Accept-Encoding", acceptEncoding)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_CBOR_조회_요청() {
+        return RestAssured
+                .given().log().all()
+                .accept(CompactMediaType.APPLICATION_CBOR_VALUE)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_형식_지정_조회_요청(String accept) {
+        return RestAssured
+                .given().log().all()
+                .header("Accept", accept)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    public static List<LineResponse> 지하철_노선_목록_필드_조회_요청(String fields) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("fields", fields)
+                .when().get("/lines")
+                .then().log().all()
+                .extract().jsonPath().getList("$", LineResponse.class);
+    }
+
     public static List<ExtractableResponse<Response>> 지하철_노선_여러개_생성_요청(List<String> names) {
         return names.stream().map(LineSteps::지하철_노선_생성_요청).collect(Collectors.toList());
     }
@@ -39,6 +83,27 @@ public class LineSteps {
         return get("/lines/{id}", lineId).as(LineResponse.class);
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_조건부_조회_요청(Long lineId, String eTag) {
+        return RestAssured
+                .given().log().all()
+                .header("If-None-Match", eTag)
+                .pathParam("id", lineId)
+                .when().get("/lines/{id}")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_CBOR_조건부_조회_요청(Long lineId, String eTag) {
+        return RestAssured
+                .given().log().all()
+                .header("If-None-Match", eTag)
+                .accept(CompactMediaType.APPLICATION_CBOR_VALUE)
+                .pathParam("id", lineId)
+                .when().get("/lines/{id}")
+                .then().log().all()
+                .extract();
+    }
+
     public static List<String> 지하철_노선_조회_요청_노선에_속한_역_반환(Long lineId) {
         return get("/lines/{id}", lineId).as(LineResponse.class)
                 .getStations().stream()
@@ -58,6 +123,14 @@ public class LineSteps {
         return post("/lines/{id}/sections", lineId, request);
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_구간_일괄_변경_요청(Long lineId, SectionBatchRequest request) {
+        return post("/lines/{id}/sections:batch", lineId, request);
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_구간_일괄_변경_요청(Long lineId, String body) {
+        return post("/lines/{id}/sections:batch", lineId, body);
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_구간_삭제_요청(Long lineId, Long stationId) {
         return RestAssured
                 .given().log().all()
@@ -68,6 +141,14 @@ public class LineSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_거리_정합성_검증_요청() {
+        return RestAssured
+                .given().log().all()
+                .when().get("/actuator/consistency")
+                .then().log().all()
+                .extract();
+    }
+
     private static LineCreateRequest createLineCreateRequest(String name) {
         return new LineCreateRequest(
                 name,
@@ -0,0 +1,43 @@
+package subway.ui;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import subway.util.AbstractAcceptanceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.StationSteps.지하철역_목록_조회_요청;
+import static subway.ui.StationSteps.지하철역_생성_요청_Response_반환;
+
+@AutoConfigureMetrics
+@DisplayName("지하철 노선도 지표 수집 기능")
+public class MetricsAcceptanceTest extends AbstractAcceptanceTest {
+
+    /**
+     * Given 지하철역을 생성하고 목록을 조회한 뒤
+     * When 지표를 수집하면
+     * Then 엔드포인트, 서비스 메서드, 요청당 SQL 문 수, 2차 캐시 적중 지표를 응답받는다.
+     */
+    @DisplayName("지표 수집")
+    @Test
+    void scrapeMetrics() {
+        //given
+        지하철역_생성_요청_Response_반환("강남역");
+        지하철역_목록_조회_요청();
+
+        //when
+        String metrics = RestAssured
+                .given().log().all()
+                .when().get("/actuator/prometheus")
+                .then().log().ifValidationFails()
+                .extract().asString();
+
+        //then
+        assertThat(metrics)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("subway_service_seconds_count")
+                .contains("hibernate_statements_per_request")
+                .contains("hibernate_second_level_cache_requests");
+    }
+}
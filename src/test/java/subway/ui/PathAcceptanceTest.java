@@ -0,0 +1,111 @@
+package subway.ui;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import subway.util.AbstractAcceptanceTest;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.LineSteps.지하철_노선_구간_등록_요청;
+import static subway.ui.LineSteps.지하철_노선_생성_요청_Response_반환;
+import static subway.ui.PathSteps.지하철_거리_조회_요청;
+import static subway.ui.PathSteps.지하철_경로_조회_요청;
+import static subway.ui.StationSteps.지하철역_생성_요청_Response_반환;
+
+@DisplayName("지하철 경로 조회 기능")
+public class PathAcceptanceTest extends AbstractAcceptanceTest {
+
+    private StationResponse 교대역;
+    private StationResponse 강남역;
+    private StationResponse 양재역;
+    private StationResponse 남부터미널역;
+
+    /**
+     * 교대역    --- 2호선(10) ---   강남역
+     * |                            |
+     * 3호선(10)                   신분당선(10)
+     * |                            |
+     * 남부터미널역  --- 3호선(3) ---   양재역
+     */
+    @BeforeEach
+    void setUpNetwork() {
+        교대역 = 지하철역_생성_요청_Response_반환("교대역");
+        강남역 = 지하철역_생성_요청_Response_반환("강남역");
+        양재역 = 지하철역_생성_요청_Response_반환("양재역");
+        남부터미널역 = 지하철역_생성_요청_Response_반환("남부터미널역");
+
+        지하철_노선_생성_요청_Response_반환("2호선", 교대역.getId(), 강남역.getId());
+        지하철_노선_생성_요청_Response_반환("신분당선", 강남역.getId(), 양재역.getId());
+        LineResponse 삼호선 = 지하철_노선_생성_요청_Response_반환("3호선", 교대역.getId(), 남부터미널역.getId());
+        지하철_노선_구간_등록_요청(삼호선.getId(), new SectionRequest(남부터미널역.getId(), 양재역.getId(), 3L));
+    }
+
+    /**
+     * Given 여러 노선으로 이어진 지하철 노선도가 있을 때
+     * When 출발역과 도착역으로 경로를 조회하면
+     * Then 최단 거리 경로의 역 목록과 거리를 응답받는다.
+     */
+    @DisplayName("지하철 최단 경로 조회")
+    @Test
+    void findPath() {
+        //when
+        PathResponse 경로 = 지하철_경로_조회_요청(교대역.getId(), 양재역.getId()).as(PathResponse.class);
+
+        //then
+        assertThat(경로.getStations().stream().map(StationResponse::getName).collect(Collectors.toList()))
+                .containsExactly("교대역", "남부터미널역", "양재역");
+        assertThat(경로.getDistance()).isEqualTo(13L);
+    }
+
+    /**
+     * Given 여러 노선으로 이어진 지하철 노선도가 있을 때
+     * When 출발역과 도착역으로 거리를 조회하면
+     * Then 최단 경로의 거리를 응답받는다.
+     */
+    @DisplayName("지하철 최단 거리 조회")
+    @Test
+    void findDistance() {
+        //when
+        DistanceResponse 거리 = 지하철_거리_조회_요청(강남역.getId(), 남부터미널역.getId()).as(DistanceResponse.class);
+
+        //then
+        assertThat(거리.getDistance()).isEqualTo(13L);
+    }
+
+    /**
+     * When 출발역과 도착역이 같은 경로를 조회하면
+     * Then 예외를 발생한다.
+     */
+    @DisplayName("출발역과 도착역이 같은 경우")
+    @Test
+    void 출발역과_도착역이_같은_경우() {
+        //when
+        ExtractableResponse<Response> 경로_조회_응답 = 지하철_경로_조회_요청(교대역.getId(), 교대역.getId());
+
+        //then
+        assertThat(경로_조회_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 어느 노선에도 등록되지 않은 역을 생성하고
+     * When 그 역까지의 경로를 조회하면
+     * Then 예외를 발생한다.
+     */
+    @DisplayName("출발역과 도착역이 연결되어 있지 않은 경우")
+    @Test
+    void 출발역과_도착역이_연결되어_있지_않은_경우() {
+        //given
+        StationResponse 마들역 = 지하철역_생성_요청_Response_반환("마들역");
+
+        //when
+        ExtractableResponse<Response> 경로_조회_응답 = 지하철_경로_조회_요청(교대역.getId(), 마들역.getId());
+
+        //then
+        assertThat(경로_조회_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+}
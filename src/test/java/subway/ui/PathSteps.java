@@ -0,0 +1,28 @@
+package subway.ui;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class PathSteps {
+
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long sourceId, Long targetId) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("source", sourceId)
+                .queryParam("target", targetId)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_거리_조회_요청(Long sourceId, Long targetId) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("source", sourceId)
+                .queryParam("target", targetId)
+                .when().get("/distances")
+                .then().log().all()
+                .extract();
+    }
+}
@@ -0,0 +1,62 @@
+package subway.ui;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import subway.util.AbstractAcceptanceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.LineSteps.*;
+import static subway.ui.StationSteps.지하철역_생성_요청_Response_반환;
+
+@DisplayName("운영 프로필 스키마 관련 기능")
+@ActiveProfiles("prod")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:file:./build/h2/subway-schema-test")
+public class SchemaAcceptanceTest extends AbstractAcceptanceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Given 마이그레이션으로 만든 스키마에서
+     * When 지하철 노선을 생성하고 구간을 등록하면
+     * Then 노선 조회 시 등록한 역 목록을 응답받는다.
+     */
+    @DisplayName("마이그레이션으로 만든 스키마에서 노선과 구간을 등록한다")
+    @Test
+    void createLineOnMigratedSchema() {
+        //given
+        StationResponse 신사역 = 지하철역_생성_요청_Response_반환("신사역");
+        StationResponse 논현역 = 지하철역_생성_요청_Response_반환("논현역");
+        StationResponse 신논현역 = 지하철역_생성_요청_Response_반환("신논현역");
+
+        //when
+        LineResponse 신분당선 = 지하철_노선_생성_요청_Response_반환("신분당선", 신사역.getId(), 논현역.getId());
+        지하철_노선_구간_등록_요청(신분당선.getId(), new SectionRequest(논현역.getId(), 신논현역.getId(), 5L));
+
+        //then
+        assertThat(지하철_노선_조회_요청_노선에_속한_역_반환(신분당선.getId())).containsExactly("신사역", "논현역", "신논현역");
+    }
+
+    /**
+     * When 노선 또는 역으로 구간을 찾는 쿼리의 실행 계획을 조회하면
+     * Then 각 컬럼에 선언한 인덱스를 사용한다.
+     */
+    @DisplayName("구간 조회 쿼리는 인덱스를 사용한다")
+    @Test
+    void sectionQueriesUseIndexes() {
+        assertThat(explain("select id from section where line_id = 1 order by id"))
+                .containsIgnoringCase("idx_section_line_id");
+        assertThat(explain("select id from section where up_station_id = 1"))
+                .containsIgnoringCase("idx_section_up_station_id");
+        assertThat(explain("select id from section where down_station_id = 1"))
+                .containsIgnoringCase("idx_section_down_station_id");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
@@ -10,6 +10,7 @@ import subway.util.AbstractAcceptanceTest;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.LineSteps.지하철_노선_생성_요청_Response_반환;
 import static subway.ui.StationSteps.*;
 import static subway.util.AcceptanceTestUtil.get;
 
@@ -56,6 +57,57 @@ public class StationAcceptanceTest extends AbstractAcceptanceTest {
         assertThat(names).containsOnly(마들역, 노원역);
     }
 
+    /**
+     * Given 지하철역을 생성하고 목록을 조회하여 ETag 를 받은 뒤
+     * When 같은 ETag 로 다시 조회하면 304 를 응답받고
+     * When 지하철역을 추가한 뒤 같은 ETag 로 조회하면
+     * Then 새로운 ETag 와 함께 지하철역 목록을 응답받는다.
+     */
+    @DisplayName("지하철역 목록을 조건부로 조회한다.")
+    @Test
+    void 지하철역_목록_조건부_조회() {
+        //given
+        지하철역_생성_요청_Response_반환("마들역");
+        String eTag = 지하철역_목록_조건부_조회_요청("\"none\"").header("ETag");
+
+        //when
+        ExtractableResponse<Response> 변경_전_응답 = 지하철역_목록_조건부_조회_요청(eTag);
+
+        //then
+        assertThat(변경_전_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        //when
+        지하철역_생성_요청_Response_반환("노원역");
+        ExtractableResponse<Response> 변경_후_응답 = 지하철역_목록_조건부_조회_요청(eTag);
+
+        //then
+        assertThat(변경_후_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(변경_후_응답.header("ETag")).isNotEqualTo(eTag);
+        assertThat(변경_후_응답.jsonPath().getList("name", String.class)).containsExactly("마들역", "노원역");
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 첫 페이지를 2개씩 조회한 뒤 마지막 역 id 이후로 다음 페이지를 조회하면
+     * Then 첫 페이지에서 2개, 다음 페이지에서 나머지 1개의 역을 응답 받는다
+     */
+    @DisplayName("지하철역 목록을 커서 기반으로 나누어 조회한다.")
+    @Test
+    void 지하철역_페이지_조회() {
+        //given
+        지하철역_생성_요청_Response_반환("마들역");
+        지하철역_생성_요청_Response_반환("노원역");
+        지하철역_생성_요청_Response_반환("중계역");
+
+        //when
+        List<StationResponse> 첫_페이지 = 지하철역_목록_페이지_조회_요청(0L, 2);
+        List<StationResponse> 다음_페이지 = 지하철역_목록_페이지_조회_요청(첫_페이지.get(1).getId(), 2);
+
+        //then
+        assertThat(첫_페이지).extracting(StationResponse::getName).containsExactly("마들역", "노원역");
+        assertThat(다음_페이지).extracting(StationResponse::getName).containsExactly("중계역");
+    }
+
     /**
      * Given 지하철역을 생성하고
      * When 그 지하철역을 삭제하면
@@ -75,4 +127,115 @@ public class StationAcceptanceTest extends AbstractAcceptanceTest {
         assertThat(지하철역_목록_조회_요청()).doesNotContain(마들역);
     }
 
-}
\ No newline at end of file
+    /**
+     * Given 지하철역을 지나는 노선을 생성하고
+     * When 노선의 구간에 등록된 지하철역을 삭제하면
+     * Then 409 를 응답 받고 지하철역은 삭제되지 않는다
+     */
+    @DisplayName("구간에 등록된 지하철역은 제거할 수 없다.")
+    @Test
+    void 구간에_등록된_지하철역_제거() {
+        //given
+        StationResponse 강남역 = 지하철역_생성_요청_Response_반환("강남역");
+        StationResponse 역삼역 = 지하철역_생성_요청_Response_반환("역삼역");
+        지하철_노선_생성_요청_Response_반환("2호선", 강남역.getId(), 역삼역.getId());
+
+        //when
+        ExtractableResponse<Response> 삭제_응답 = 지하철역_삭제_요청(강남역.getId());
+
+        //then
+        assertThat(삭제_응답.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(지하철역_목록_조회_요청()).contains("강남역");
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 그 중 2개의 지하철역을 한 번에 삭제하면
+     * Then 지하철역 목록 조회 시 남은 1개의 역만 응답 받는다
+     */
+    @DisplayName("여러 지하철역을 한 번에 제거한다.")
+    @Test
+    void 지하철역_일괄_제거() {
+        //given
+        StationResponse 마들역 = 지하철역_생성_요청_Response_반환("마들역");
+        StationResponse 노원역 = 지하철역_생성_요청_Response_반환("노원역");
+        지하철역_생성_요청_Response_반환("중계역");
+
+        //when
+        ExtractableResponse<Response> 삭제_응답 = 지하철역_일괄_삭제_요청(List.of(마들역.getId(), 노원역.getId()));
+
+        //then
+        assertThat(삭제_응답.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(지하철역_목록_조회_요청()).containsExactly("중계역");
+    }
+
+    /**
+     * Given 구간에 등록된 지하철역과 등록되지 않은 지하철역을 생성하고
+     * When 두 지하철역을 한 번에 삭제하면
+     * Then 409 를 응답 받고 어떤 지하철역도 삭제되지 않는다
+     */
+    @DisplayName("구간에 등록된 지하철역이 포함되면 한 번에 제거할 수 없다.")
+    @Test
+    void 구간에_등록된_지하철역_일괄_제거() {
+        //given
+        StationResponse 강남역 = 지하철역_생성_요청_Response_반환("강남역");
+        StationResponse 역삼역 = 지하철역_생성_요청_Response_반환("역삼역");
+        StationResponse 마들역 = 지하철역_생성_요청_Response_반환("마들역");
+        지하철_노선_생성_요청_Response_반환("2호선", 강남역.getId(), 역삼역.getId());
+
+        //when
+        ExtractableResponse<Response> 삭제_응답 = 지하철역_일괄_삭제_요청(List.of(강남역.getId(), 마들역.getId()));
+
+        //then
+        assertThat(삭제_응답.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(지하철역_목록_조회_요청()).contains("강남역", "마들역");
+    }
+
+
+    /**
+     * Given 강남역을 지나는 2개의 지하철 노선을 생성하고
+     * When 강남역을 지나는 노선 목록을 조회하면
+     * Then 2개의 노선을 응답 받는다
+     */
+    @DisplayName("지하철역을 지나는 노선 목록을 조회한다.")
+    @Test
+    void 지하철역_노선_목록_조회() {
+        //given
+        StationResponse 강남역 = 지하철역_생성_요청_Response_반환("강남역");
+        StationResponse 역삼역 = 지하철역_생성_요청_Response_반환("역삼역");
+        StationResponse 양재역 = 지하철역_생성_요청_Response_반환("양재역");
+        지하철_노선_생성_요청_Response_반환("2호선", 강남역.getId(), 역삼역.getId());
+        지하철_노선_생성_요청_Response_반환("신분당선", 강남역.getId(), 양재역.getId());
+
+        //when
+        List<String> lineNames = 지하철역_노선_목록_조회_요청(강남역.getId());
+
+        //then
+        assertThat(lineNames).containsExactly("2호선", "신분당선");
+        assertThat(지하철역_노선_목록_조회_요청(역삼역.getId())).containsExactly("2호선");
+    }
+
+    /**
+     * Given 강남역을 지나는 2개의 지하철 노선을 생성하고
+     * When 환승역 목록을 조회하면
+     * Then 강남역과 강남역을 지나는 노선들을 응답 받는다
+     */
+    @DisplayName("환승역 목록을 조회한다.")
+    @Test
+    void 환승역_목록_조회() {
+        //given
+        StationResponse 강남역 = 지하철역_생성_요청_Response_반환("강남역");
+        StationResponse 역삼역 = 지하철역_생성_요청_Response_반환("역삼역");
+        StationResponse 양재역 = 지하철역_생성_요청_Response_반환("양재역");
+        지하철_노선_생성_요청_Response_반환("2호선", 강남역.getId(), 역삼역.getId());
+        지하철_노선_생성_요청_Response_반환("신분당선", 강남역.getId(), 양재역.getId());
+
+        //when
+        List<TransferStationResponse> transferStations = 환승역_목록_조회_요청();
+
+        //then
+        assertThat(transferStations).extracting(TransferStationResponse::getName).containsExactly("강남역");
+        assertThat(transferStations.get(0).getLines()).extracting(LineResponse::getName)
+                .containsExactly("2호선", "신분당선");
+    }
+}
@@ -1,5 +1,6 @@
 package subway.ui;
 
+import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 
@@ -21,7 +22,43 @@ public class StationSteps {
         return get("/stations", "name", String.class);
     }
 
+    public static ExtractableResponse<Response> 지하철역_목록_조건부_조회_요청(String eTag) {
+        return RestAssured
+                .given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static List<StationResponse> 지하철역_목록_페이지_조회_요청(Long after, int limit) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("after", after)
+                .queryParam("limit", limit)
+                .when().get("/stations")
+                .then().log().all()
+                .extract().jsonPath().getList("$", StationResponse.class);
+    }
+
+    public static List<String> 지하철역_노선_목록_조회_요청(Long stationId) {
+        return get("/stations/{id}/lines", stationId).jsonPath().getList("name", String.class);
+    }
+
+    public static List<TransferStationResponse> 환승역_목록_조회_요청() {
+        return get("/stations/transfers", "$", TransferStationResponse.class);
+    }
+
     public static ExtractableResponse<Response> 지하철역_삭제_요청(Long stationId) {
         return delete("/stations/{id}", stationId);
     }
+
+    public static ExtractableResponse<Response> 지하철역_일괄_삭제_요청(List<Long> stationIds) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("ids", stationIds)
+                .when().delete("/stations")
+                .then().log().all()
+                .extract();
+    }
 }
@@ -0,0 +1,52 @@
+package subway.ui;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import subway.util.AbstractAcceptanceTest;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.ui.StationSteps.지하철역_목록_조회_요청;
+import static subway.ui.StationSteps.지하철역_생성_요청;
+
+@DisplayName("가상 스레드 실행 모드")
+@EnabledIf("runsOnJava21OrLater")
+@TestPropertySource(properties = "subway.server.virtual-threads=true")
+public class VirtualThreadAcceptanceTest extends AbstractAcceptanceTest {
+
+    @Autowired
+    private ExecutorService virtualThreadExecutor;
+
+    static boolean runsOnJava21OrLater() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Given 가상 스레드 모드로 애플리케이션을 띄우고
+     * When 지하철역을 생성하고 조회하면
+     * Then 요청 실행기는 가상 스레드를 만들고, 요청은 정상 처리된다.
+     */
+    @DisplayName("가상 스레드 모드로 기동해 요청을 처리한다")
+    @Test
+    void handleRequestsOnVirtualThreads() throws Exception {
+        //given
+        Object isVirtual = virtualThreadExecutor
+                .submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+                .get();
+
+        //when
+        ExtractableResponse<Response> 생성_응답 = 지하철역_생성_요청("강남역");
+
+        //then
+        assertThat(isVirtual).isEqualTo(true);
+        assertThat(생성_응답.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(지하철역_목록_조회_요청()).containsExactly("강남역");
+    }
+}
@@ -37,6 +37,13 @@ public class AcceptanceTestUtil {
                 .extract().jsonPath().getList(key, genericType);
     }
 
+    public static ExtractableResponse<Response> get(String path) {
+        return RestAssured.given().log().all()
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> get(String path, Long id) {
         return RestAssured
                 .given().log().all()
@@ -4,6 +4,9 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import subway.service.NetworkSnapshotCache;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
@@ -17,13 +20,19 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final NetworkSnapshotCache networkSnapshotCache;
+
     private List<String> tableNames;
 
+    public DatabaseCleanup(NetworkSnapshotCache networkSnapshotCache) {
+        this.networkSnapshotCache = networkSnapshotCache;
+    }
+
     @Override
     public void afterPropertiesSet() {
         tableNames = entityManager.getMetamodel().getEntities().stream()
                 .filter(entity -> entity.getJavaType().getAnnotation(Entity.class) != null)
-                .map(entity -> entity.getName())
+                .map(entity -> entity.getName().replaceAll("([a-z])([A-Z])", "$1_$2"))
                 .collect(Collectors.toList());
     }
 
@@ -33,8 +42,14 @@ public class DatabaseCleanup implements InitializingBean {
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
-            entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate();
         }
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        // 변경 이벤트를 발행하면 outbox 에 기록되므로 스냅샷만 커밋 후에 무효화한다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                networkSnapshotCache.invalidate();
+            }
+        });
     }
 }